@@ -0,0 +1,131 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Records the events of {@link JWTEvents} with the Java Flight Recorder. The events are only created when a
+ * recording enables them, and their fields are only filled when the recording keeps them, e.g. when they last
+ * longer than the threshold of the event.
+ * <p>
+ * This class is thread-safe.
+ */
+final class FlightRecorderEvents extends JWTEvents.Recorder {
+
+    @Override
+    Object beginVerification() {
+        VerificationEvent event = new VerificationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endVerification(Object started, String token, DecodedJWT jwt, String failure, String message) {
+        VerificationEvent event = (VerificationEvent) started;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        DecodedJWT decoded = jwt != null || token == null ? jwt : decodeQuietly(token);
+        if (decoded != null) {
+            event.algorithm = decoded.getAlgorithm();
+            event.keyId = decoded.getKeyId();
+            event.payloadSize = decoded.getPayload().length();
+        }
+        event.failure = failure;
+        event.message = message;
+        event.commit();
+    }
+
+    @Override
+    Object beginSigning() {
+        SigningEvent event = new SigningEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endSigning(Object started, String algorithm, String keyId, int payloadSize, Throwable failure) {
+        SigningEvent event = (SigningEvent) started;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.algorithm = algorithm;
+        event.keyId = keyId;
+        event.payloadSize = payloadSize;
+        if (failure != null) {
+            event.failure = failure.getClass().getSimpleName();
+            event.message = failure.getMessage();
+        }
+        event.commit();
+    }
+
+    @Override
+    Object beginKeyLookup() {
+        KeyLookupEvent event = new KeyLookupEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endKeyLookup(Object started, String algorithm, String keyId, Object provider, boolean found) {
+        KeyLookupEvent event = (KeyLookupEvent) started;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.algorithm = algorithm;
+        event.keyId = keyId;
+        event.provider = provider.getClass().getName();
+        event.found = found;
+        event.commit();
+    }
+
+    @Override
+    Object beginKeysReload() {
+        KeysReloadEvent event = new KeysReloadEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endKeysReload(Object started, String source, int keyCount, Throwable failure) {
+        KeysReloadEvent event = (KeysReloadEvent) started;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.source = source;
+        event.keyCount = keyCount;
+        if (failure != null) {
+            event.failure = failure.getClass().getSimpleName();
+            event.message = failure.getMessage();
+        }
+        event.commit();
+    }
+
+    /**
+     * Decodes a rejected token again to describe it, as the verifier doesn't keep the decoded token of a failure.
+     */
+    private static DecodedJWT decodeQuietly(String token) {
+        try {
+            return JWT.decode(token);
+        } catch (JWTDecodeException e) {
+            return null;
+        }
+    }
+}
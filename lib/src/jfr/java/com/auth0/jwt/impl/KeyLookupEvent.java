@@ -0,0 +1,39 @@
+package com.auth0.jwt.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The lookup of a Public Key by id in the key provider of an RSA or ECDSA algorithm, including the key sets of this
+ * library and the asynchronous providers. Only the lookups taking 1 ms or more are recorded by default, which can be
+ * lowered with the "threshold" setting of the event.
+ */
+@Name("com.auth0.jwt.KeyLookup")
+@Label("JWT Key Lookup")
+@Category({"Auth0", "JWT"})
+@Description("The lookup of the Public Key verifying a JSON Web Token")
+@StackTrace(false)
+@Threshold("1 ms")
+final class KeyLookupEvent extends Event {
+
+    @Label("Algorithm")
+    @Description("The name of the Algorithm looking up the key")
+    String algorithm;
+
+    @Label("Key Id")
+    @Description("The \"kid\" of the token")
+    String keyId;
+
+    @Label("Key Provider")
+    @Description("The class of the key provider")
+    String provider;
+
+    @Label("Found")
+    @Description("Whether the key provider returned a key")
+    boolean found;
+}
@@ -0,0 +1,34 @@
+package com.auth0.jwt.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The reload of the keys of a {@link com.auth0.jwt.algorithms.JWKSKeyProvider}, in the background or from
+ * {@link com.auth0.jwt.algorithms.JWKSKeyProvider#refresh()}. Every reload is recorded.
+ */
+@Name("com.auth0.jwt.KeysReload")
+@Label("JWKS Reload")
+@Category({"Auth0", "JWT"})
+@Description("The reload of the keys of a JSON Web Key Set")
+final class KeysReloadEvent extends Event {
+
+    @Label("Source")
+    @Description("The file or the class of the source the keys were read from")
+    String source;
+
+    @Label("Key Count")
+    @Description("The number of RSA and EC keys loaded")
+    int keyCount;
+
+    @Label("Failure")
+    @Description("The exception that made the reload fail, or null if it succeeded")
+    String failure;
+
+    @Label("Message")
+    @Description("The message of the exception that made the reload fail")
+    String message;
+}
@@ -0,0 +1,45 @@
+package com.auth0.jwt.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The creation of a token by a {@link com.auth0.jwt.JWTCreator.Builder} or a
+ * {@link com.auth0.jwt.JWTCreator.Template}, from serializing its claims to signing it. Only the tokens taking
+ * 1 ms or more are recorded by default, which can be lowered with the "threshold" setting of the event.
+ */
+@Name("com.auth0.jwt.Signing")
+@Label("JWT Signing")
+@Category({"Auth0", "JWT"})
+@Description("The creation and signature of a JSON Web Token")
+@StackTrace(false)
+@Threshold("1 ms")
+final class SigningEvent extends Event {
+
+    @Label("Algorithm")
+    @Description("The name of the Algorithm signing the token")
+    String algorithm;
+
+    @Label("Key Id")
+    @Description("The \"kid\" of the token")
+    String keyId;
+
+    @Label("Payload Size")
+    @Description("The length of the Base64url encoded Payload")
+    @DataAmount
+    int payloadSize;
+
+    @Label("Failure")
+    @Description("The exception that made the creation fail, or null if the token was signed")
+    String failure;
+
+    @Label("Message")
+    @Description("The message of the exception that made the creation fail")
+    String message;
+}
@@ -0,0 +1,44 @@
+package com.auth0.jwt.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The verification of a token by a {@link com.auth0.jwt.JWTVerifier}. Only the verifications taking 1 ms or more
+ * are recorded by default, which can be lowered with the "threshold" setting of the event.
+ */
+@Name("com.auth0.jwt.Verification")
+@Label("JWT Verification")
+@Category({"Auth0", "JWT"})
+@Description("The verification of a JSON Web Token")
+@StackTrace(false)
+@Threshold("1 ms")
+final class VerificationEvent extends Event {
+
+    @Label("Algorithm")
+    @Description("The \"alg\" of the token, or null if it couldn't be decoded")
+    String algorithm;
+
+    @Label("Key Id")
+    @Description("The \"kid\" of the token")
+    String keyId;
+
+    @Label("Payload Size")
+    @Description("The length of the Base64url encoded Payload")
+    @DataAmount
+    int payloadSize;
+
+    @Label("Failure")
+    @Description("Why the token was rejected, or null if it's valid")
+    String failure;
+
+    @Label("Message")
+    @Description("The message of the exception rejecting the token")
+    String message;
+}
@@ -0,0 +1,86 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * Creates the Algorithms used by the benchmarks, with freshly generated keys, so every Algorithm factory can be
+ * measured without bundling key files in the jmh source set.
+ */
+final class BenchmarkAlgorithms {
+
+    private BenchmarkAlgorithms() {
+    }
+
+    /**
+     * Creates an Algorithm with a new key. Two calls with the same name return Algorithms with different keys,
+     * so a token signed by one fails the signature verification of the other.
+     *
+     * @param name the JWA name of the Algorithm, e.g. "RS256".
+     * @return a new Algorithm able to sign and verify.
+     * @throws GeneralSecurityException if the key can't be generated.
+     */
+    static Algorithm create(String name) throws GeneralSecurityException {
+        switch (name) {
+            case "HS256":
+                return Algorithm.HMAC256(secret(32));
+            case "HS384":
+                return Algorithm.HMAC384(secret(48));
+            case "HS512":
+                return Algorithm.HMAC512(secret(64));
+            case "RS256":
+                KeyPair rsa256 = rsaKeyPair();
+                return Algorithm.RSA256((RSAPublicKey) rsa256.getPublic(), (RSAPrivateKey) rsa256.getPrivate());
+            case "RS384":
+                KeyPair rsa384 = rsaKeyPair();
+                return Algorithm.RSA384((RSAPublicKey) rsa384.getPublic(), (RSAPrivateKey) rsa384.getPrivate());
+            case "RS512":
+                KeyPair rsa512 = rsaKeyPair();
+                return Algorithm.RSA512((RSAPublicKey) rsa512.getPublic(), (RSAPrivateKey) rsa512.getPrivate());
+            case "ES256":
+                KeyPair ec256 = ecKeyPair("secp256r1");
+                return Algorithm.ECDSA256((ECPublicKey) ec256.getPublic(), (ECPrivateKey) ec256.getPrivate());
+            case "ES384":
+                KeyPair ec384 = ecKeyPair("secp384r1");
+                return Algorithm.ECDSA384((ECPublicKey) ec384.getPublic(), (ECPrivateKey) ec384.getPrivate());
+            case "ES512":
+                KeyPair ec512 = ecKeyPair("secp521r1");
+                return Algorithm.ECDSA512((ECPublicKey) ec512.getPublic(), (ECPrivateKey) ec512.getPrivate());
+            default:
+                throw new IllegalArgumentException("Unknown Algorithm '" + name + "'.");
+        }
+    }
+
+    private static byte[] secret(int length) {
+        byte[] secret = new byte[length];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    /**
+     * Generates a 2048 bits RSA key pair.
+     *
+     * @return a new key pair.
+     * @throws GeneralSecurityException if the key can't be generated.
+     */
+    static KeyPair rsaKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair ecKeyPair(String curve) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator.generateKeyPair();
+    }
+}
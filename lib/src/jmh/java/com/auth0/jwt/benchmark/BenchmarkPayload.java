@@ -0,0 +1,86 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The payloads signed and verified by the benchmarks. Both carry the {@link #ISSUER}, {@link #AUDIENCE} and
+ * {@link #SUBJECT} the benchmark verifiers expect, and expire a day after they're created, so they stay valid for
+ * a whole run.
+ */
+public enum BenchmarkPayload {
+
+    /**
+     * The registered claims of a typical access token, around 250 bytes once encoded.
+     */
+    SMALL {
+        @Override
+        JWTCreator.Builder claims(JWTCreator.Builder builder) {
+            return builder;
+        }
+    },
+
+    /**
+     * A token carrying roles, permissions and profile data as well, around 3.5 KB once encoded.
+     */
+    LARGE {
+        @Override
+        JWTCreator.Builder claims(JWTCreator.Builder builder) {
+            List<String> roles = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                roles.add("role-" + i);
+            }
+            Map<String, Object> permissions = new HashMap<>();
+            for (int i = 0; i < 20; i++) {
+                List<String> actions = new ArrayList<>();
+                actions.add("read");
+                actions.add("write");
+                actions.add("delete");
+                permissions.put("resource-" + i, actions);
+            }
+            builder.withClaim("roles", roles)
+                    .withClaim("permissions", permissions)
+                    .withClaim("email", "john.doe@example.com")
+                    .withClaim("email_verified", true)
+                    .withClaim("login_count", 1234);
+            for (int i = 0; i < 20; i++) {
+                builder.withClaim("attribute_" + i, "value of the custom attribute number " + i);
+            }
+            return builder;
+        }
+    };
+
+    static final String ISSUER = "https://auth.example.com/";
+    static final String AUDIENCE = "https://api.example.com/";
+    static final String SUBJECT = "auth0|1234567890";
+
+    /**
+     * Creates a builder with the claims of this payload.
+     *
+     * @return a new builder, ready to sign.
+     */
+    JWTCreator.Builder builder() {
+        Instant now = Instant.now();
+        return claims(JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject(SUBJECT)
+                .withAudience(AUDIENCE)
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(1, ChronoUnit.DAYS)));
+    }
+
+    /**
+     * Adds the claims specific to this payload.
+     *
+     * @param builder the builder holding the registered claims.
+     * @return the same builder.
+     */
+    abstract JWTCreator.Builder claims(JWTCreator.Builder builder);
+}
@@ -0,0 +1,105 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a JMH benchmark for decoding JWTs and reading their claims the way applications usually do, for
+ * small and large payloads. The custom claims are only in the large payload, so with the small one the
+ * benchmarks reading them measure the lookup of a missing claim.
+ * <p>
+ * Run it with the GC profiler to see the allocations per access as well:
+ * {@code ./gradlew runJMH --args="ClaimAccessBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClaimAccessBenchmark {
+
+    @Param({"SMALL", "LARGE"})
+    public BenchmarkPayload payload;
+
+    private String token;
+    private DecodedJWT decoded;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        token = payload.builder().sign(BenchmarkAlgorithms.create("HS256"));
+        decoded = JWT.decode(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public DecodedJWT decode() {
+        return JWT.decode(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public String decodeAndGetSubject() {
+        return JWT.decode(token).getSubject();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void getRegisteredClaims(Blackhole blackhole) {
+        blackhole.consume(decoded.getIssuer());
+        blackhole.consume(decoded.getSubject());
+        blackhole.consume(decoded.getAudience());
+        blackhole.consume(decoded.getExpiresAtAsInstant());
+        blackhole.consume(decoded.getIssuedAtAsInstant());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Object getExpiresAtAsDate() {
+        return decoded.getExpiresAt();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public long getExpiresAtAsEpochSecond() {
+        return decoded.getExpiresAtAsEpochSecond();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public String getCustomClaimAsString() {
+        return decoded.getClaim("email").asString();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public List<String> getCustomClaimAsList() {
+        return decoded.getClaim("roles").asList(String.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Map<String, Object> getCustomClaimAsMap() {
+        return decoded.getClaim("permissions").asMap();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Map<String, Claim> getClaims() {
+        return decoded.getClaims();
+    }
+}
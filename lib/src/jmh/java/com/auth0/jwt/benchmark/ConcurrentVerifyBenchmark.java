@@ -0,0 +1,160 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Verification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * This class is a JMH benchmark for a single {@link JWTVerifier} and a single {@link Algorithm} shared by an
+ * increasing number of threads, to find where the throughput stops scaling with the cores. Each thread goes
+ * through the same set of distinct tokens, starting at a different one.
+ * <p>
+ * JMH reports the throughput of all the threads together: a benchmark scales perfectly when its score at N
+ * threads is N times its score at one thread, up to the number of cores. The benchmarks with more threads than
+ * cores show how the verifier behaves when oversubscribed, as in a server with a large request thread pool. Add
+ * {@code -prof gc} to see whether the allocations grow with the threads, or {@code -prof stack} to see where the
+ * threads wait: {@code ./gradlew runJMH --args="ConcurrentVerifyBenchmark -prof stack"}
+ * <p>
+ * {@link VirtualThreadVerifyBenchmark} runs the same benchmarks on virtual threads.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrentVerifyBenchmark {
+
+    private static final int TOKEN_COUNT = 256;
+
+    /**
+     * How the shared verifier is built.
+     */
+    public enum Options {
+        /**
+         * Reads the system clock for every token.
+         */
+        DEFAULT,
+        /**
+         * Reads the time from {@link Verification#withCoarseClock()}.
+         */
+        COARSE_CLOCK,
+        /**
+         * Skips the signature of the tokens verified before, with a cache large enough to hold all the tokens.
+         */
+        TOKEN_CACHE
+    }
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algorithm;
+
+    @Param({"DEFAULT", "COARSE_CLOCK", "TOKEN_CACHE"})
+    public Options options;
+
+    private Algorithm signer;
+    private JWTVerifier verifier;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        signer = BenchmarkAlgorithms.create(algorithm);
+        Verification verification = JWT.require(signer)
+                .withIssuer(BenchmarkPayload.ISSUER)
+                .withAudience(BenchmarkPayload.AUDIENCE);
+        if (options == Options.COARSE_CLOCK) {
+            verification.withCoarseClock();
+        } else if (options == Options.TOKEN_CACHE) {
+            verification.withVerifiedTokenCache(TOKEN_COUNT * 4);
+        }
+        verifier = verification.build();
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = BenchmarkPayload.SMALL.builder().withJWTId("token-" + i).sign(signer);
+        }
+    }
+
+    /**
+     * The position of a thread in the shared tokens, and its own builder, as a builder can't be shared.
+     */
+    @State(Scope.Thread)
+    public static class PerThread {
+        private int next;
+        private JWTCreator.Builder builder;
+
+        @Setup
+        public void setUp(ThreadParams threads) {
+            next = (threads.getThreadIndex() * 31) % TOKEN_COUNT;
+            builder = BenchmarkPayload.SMALL.builder();
+        }
+
+        String nextToken(ConcurrentVerifyBenchmark benchmark) {
+            String token = benchmark.tokens[next];
+            next = (next + 1) % TOKEN_COUNT;
+            return token;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(1)
+    public DecodedJWT verify1Thread(PerThread thread) {
+        return verifier.verify(thread.nextToken(this));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(4)
+    public DecodedJWT verify4Threads(PerThread thread) {
+        return verifier.verify(thread.nextToken(this));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(16)
+    public DecodedJWT verify16Threads(PerThread thread) {
+        return verifier.verify(thread.nextToken(this));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(48)
+    public DecodedJWT verify48Threads(PerThread thread) {
+        return verifier.verify(thread.nextToken(this));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(Threads.MAX)
+    public DecodedJWT verifyAllCores(PerThread thread) {
+        return verifier.verify(thread.nextToken(this));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(1)
+    public String sign1Thread(PerThread thread) {
+        return thread.builder.sign(signer);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(Threads.MAX)
+    public String signAllCores(PerThread thread) {
+        return thread.builder.sign(signer);
+    }
+}
@@ -0,0 +1,92 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.algorithms.RSAKeySet;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is a JMH benchmark for threads sharing a verifier whose {@link RSAKeySet} keeps changing. In the
+ * "rotating" group three threads verify tokens while a fourth replaces the other keys of the set in a tight loop,
+ * far more often than any real rotation, to measure the worst contention between them. The "steady" group
+ * verifies the same tokens with the same number of threads while the keys don't change, as a reference.
+ */
+@State(Scope.Group)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KeyRotationBenchmark {
+
+    private static final String SIGNING_KEY_ID = "signing-key";
+
+    private RSAKeySet keySet;
+    private JWTVerifier verifier;
+    private String token;
+    private Map<String, RSAPublicKey> previousKeys;
+    private Map<String, RSAPublicKey> nextKeys;
+    private boolean rotated;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        KeyPair signing = BenchmarkAlgorithms.rsaKeyPair();
+        RSAPublicKey signingKey = (RSAPublicKey) signing.getPublic();
+        previousKeys = new HashMap<>();
+        previousKeys.put(SIGNING_KEY_ID, signingKey);
+        previousKeys.put("previous-key", (RSAPublicKey) BenchmarkAlgorithms.rsaKeyPair().getPublic());
+        nextKeys = new HashMap<>();
+        nextKeys.put(SIGNING_KEY_ID, signingKey);
+        nextKeys.put("next-key", (RSAPublicKey) BenchmarkAlgorithms.rsaKeyPair().getPublic());
+
+        keySet = RSAKeySet.of(previousKeys, SIGNING_KEY_ID, (RSAPrivateKey) signing.getPrivate());
+        Algorithm algorithm = Algorithm.RSA256(keySet);
+        verifier = JWT.require(algorithm)
+                .withIssuer(BenchmarkPayload.ISSUER)
+                .withAudience(BenchmarkPayload.AUDIENCE)
+                .build();
+        token = BenchmarkPayload.SMALL.builder().sign(algorithm);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Group("rotating")
+    @GroupThreads(3)
+    public DecodedJWT verifyWhileRotating() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Group("rotating")
+    @GroupThreads(1)
+    public void rotate() {
+        keySet.replaceAll(rotated ? previousKeys : nextKeys);
+        rotated = !rotated;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Group("steady")
+    @GroupThreads(3)
+    public DecodedJWT verifySteady() {
+        return verifier.verify(token);
+    }
+}
@@ -0,0 +1,51 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * This class is a JMH benchmark for signing JWTs with every Algorithm, for small and large payloads. The claims
+ * are serialized on every call, as they are when a token is issued.
+ * <p>
+ * Run it with the GC profiler to see the allocations per token as well:
+ * {@code ./gradlew runJMH --args="SignBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SignBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS384", "RS512", "ES256", "ES384", "ES512"})
+    public String algorithm;
+
+    @Param({"SMALL", "LARGE"})
+    public BenchmarkPayload payload;
+
+    private Algorithm signer;
+    private JWTCreator.Builder builder;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        signer = BenchmarkAlgorithms.create(algorithm);
+        builder = payload.builder();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public String sign() {
+        return builder.sign(signer);
+    }
+}
@@ -0,0 +1,67 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * This class is a JMH benchmark for verifying valid JWTs with every Algorithm, for small and large payloads.
+ * {@link #verify()} decodes the token and checks its signature and claims, as a resource server does on every
+ * request, while {@link #verifyDecoded()} skips the decoding to isolate the signature and claim checks.
+ * <p>
+ * Run it with the GC profiler to see the allocations per token as well:
+ * {@code ./gradlew runJMH --args="VerifyBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VerifyBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS384", "RS512", "ES256", "ES384", "ES512"})
+    public String algorithm;
+
+    @Param({"SMALL", "LARGE"})
+    public BenchmarkPayload payload;
+
+    private JWTVerifier verifier;
+    private String token;
+    private DecodedJWT decoded;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        Algorithm signer = BenchmarkAlgorithms.create(algorithm);
+        verifier = JWT.require(signer)
+                .withIssuer(BenchmarkPayload.ISSUER)
+                .withAudience(BenchmarkPayload.AUDIENCE)
+                .withSubject(BenchmarkPayload.SUBJECT)
+                .build();
+        token = payload.builder().sign(signer);
+        decoded = JWT.decode(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public DecodedJWT verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public DecodedJWT verifyDecoded() {
+        return verifier.verify(decoded);
+    }
+}
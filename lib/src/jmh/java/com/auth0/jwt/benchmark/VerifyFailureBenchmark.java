@@ -0,0 +1,121 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Verification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * This class is a JMH benchmark for verifying a valid JWT and JWTs failing each of the verification steps, to
+ * compare the cost of rejecting a token with the cost of accepting it. Rejections are measured with and without
+ * stack traces, see {@link Verification#withStacklessExceptions()}.
+ * <p>
+ * Run it with the GC profiler to see the allocations per token as well:
+ * {@code ./gradlew runJMH --args="VerifyFailureBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VerifyFailureBenchmark {
+
+    private static final String SCOPE = "scope";
+
+    /**
+     * The token given to the verifier, and why it's rejected.
+     */
+    public enum Outcome {
+        VALID,
+        MALFORMED,
+        ALGORITHM_MISMATCH,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        INCORRECT_CLAIM,
+        MISSING_CLAIM
+    }
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algorithm;
+
+    @Param({"VALID", "MALFORMED", "ALGORITHM_MISMATCH", "INVALID_SIGNATURE", "EXPIRED", "INCORRECT_CLAIM",
+            "MISSING_CLAIM"})
+    public Outcome outcome;
+
+    @Param({"false", "true"})
+    public boolean stacklessExceptions;
+
+    private JWTVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        Algorithm signer = BenchmarkAlgorithms.create(algorithm);
+        Verification verification = JWT.require(signer)
+                .withIssuer(BenchmarkPayload.ISSUER)
+                .withAudience(BenchmarkPayload.AUDIENCE)
+                .withClaimPresence(SCOPE);
+        if (stacklessExceptions) {
+            verification.withStacklessExceptions();
+        }
+        verifier = verification.build();
+        token = createToken(signer);
+    }
+
+    private String createToken(Algorithm signer) throws GeneralSecurityException {
+        switch (outcome) {
+            case VALID:
+                return validToken().sign(signer);
+            case MALFORMED:
+                // A correctly signed Payload that's not JSON
+                String header = validToken().sign(signer).split("\\.")[0];
+                String notJson = "bm90IGpzb24";
+                byte[] signature = signer.sign(header.getBytes(StandardCharsets.US_ASCII),
+                        notJson.getBytes(StandardCharsets.US_ASCII));
+                return header + "." + notJson + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+            case ALGORITHM_MISMATCH:
+                return validToken().sign(BenchmarkAlgorithms.create(algorithm.replace("256", "384")));
+            case INVALID_SIGNATURE:
+                return validToken().sign(BenchmarkAlgorithms.create(algorithm));
+            case EXPIRED:
+                return validToken().withExpiresAt(Instant.now().minus(1, ChronoUnit.DAYS)).sign(signer);
+            case INCORRECT_CLAIM:
+                return validToken().withIssuer("https://other.example.com/").sign(signer);
+            case MISSING_CLAIM:
+                return BenchmarkPayload.SMALL.builder().sign(signer);
+            default:
+                throw new IllegalStateException("Unknown outcome " + outcome);
+        }
+    }
+
+    private static JWTCreator.Builder validToken() {
+        return BenchmarkPayload.SMALL.builder().withClaim(SCOPE, "read:messages");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Object verify() {
+        try {
+            return verifier.verify(token);
+        } catch (JWTVerificationException e) {
+            return e;
+        }
+    }
+}
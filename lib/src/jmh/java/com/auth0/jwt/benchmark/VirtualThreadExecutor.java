@@ -0,0 +1,67 @@
+package com.auth0.jwt.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor that makes JMH run the benchmark threads as virtual threads, when given to the forked JVM with
+ * {@code -Djmh.executor=CUSTOM -Djmh.executor.class=com.auth0.jwt.benchmark.VirtualThreadExecutor}.
+ * <p>
+ * Virtual threads are looked up by reflection so the jmh source set keeps compiling with the JDK 8 API. Creating
+ * the executor on a JVM older than 21 fails, which only fails the benchmarks that asked for it.
+ */
+public final class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    /**
+     * Creates the executor. JMH calls this constructor with the number of benchmark threads and their name
+     * prefix, which are ignored as there's one virtual thread per task.
+     *
+     * @param maxThreads the number of benchmark threads.
+     * @param prefix     the prefix of the thread names.
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads.
+     */
+    public VirtualThreadExecutor(int maxThreads, String prefix) throws UnsupportedOperationException {
+        try {
+            this.delegate = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException("Virtual threads need Java 21 or later.", e);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,15 @@
+package com.auth0.jwt.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * This class is a JMH benchmark running the benchmarks of {@link ConcurrentVerifyBenchmark} on virtual threads,
+ * with {@link VirtualThreadExecutor}. It needs Java 21 or later to run, and fails on older JVMs; leave it out with
+ * {@code -e VirtualThread} when running the whole suite on them.
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-Djmh.executor=CUSTOM",
+        "-Djmh.executor.class=com.auth0.jwt.benchmark.VirtualThreadExecutor"
+})
+public class VirtualThreadVerifyBenchmark extends ConcurrentVerifyBenchmark {
+}
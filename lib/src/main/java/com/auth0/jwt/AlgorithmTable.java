@@ -0,0 +1,91 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.impl.StacklessExceptions;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Algorithms accepted by a verifier, indexed by the "alg" name and optionally the "kid" of the token's Header,
+ * so the Algorithm of a token is found with one or two hash lookups instead of trying each one in turn.
+ * An Algorithm registered for a key id takes precedence over the one registered for its name only.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class AlgorithmTable {
+
+    private final Map<String, Algorithm> byName;
+    private final Map<String, Map<String, Algorithm>> byNameAndKeyId;
+
+    private AlgorithmTable(Map<String, Algorithm> byName, Map<String, Map<String, Algorithm>> byNameAndKeyId) {
+        this.byName = byName;
+        this.byNameAndKeyId = byNameAndKeyId;
+    }
+
+    /**
+     * Finds the Algorithm to verify the given token with.
+     *
+     * @param jwt the token to verify.
+     * @return the Algorithm for the token's "alg" and "kid".
+     * @throws AlgorithmMismatchException if none of the Algorithms matches the token's Header.
+     */
+    Algorithm select(DecodedJWT jwt) throws AlgorithmMismatchException {
+        String name = jwt.getAlgorithm();
+        if (name != null) {
+            Map<String, Algorithm> byKeyId = byNameAndKeyId.get(name);
+            if (byKeyId != null) {
+                String keyId = jwt.getKeyId();
+                Algorithm algorithm = keyId != null ? byKeyId.get(keyId) : null;
+                if (algorithm != null) {
+                    return algorithm;
+                }
+            }
+            Algorithm algorithm = byName.get(name);
+            if (algorithm != null) {
+                return algorithm;
+            }
+        }
+        throw new AlgorithmMismatchException(
+                "The provided Algorithm doesn't match the one defined in the JWT's Header.",
+                StacklessExceptions.writableStackTrace());
+    }
+
+    /**
+     * Collects the accepted Algorithms. This class is <strong>not</strong> thread-safe.
+     */
+    static final class Builder {
+        private final Map<String, Algorithm> byName = new HashMap<>();
+        private final Map<String, Map<String, Algorithm>> byNameAndKeyId = new HashMap<>();
+
+        Builder add(Algorithm algorithm) throws IllegalArgumentException {
+            if (byName.putIfAbsent(algorithm.getName(), algorithm) != null) {
+                throw new IllegalArgumentException(
+                        "An Algorithm named '" + algorithm.getName() + "' is already accepted.");
+            }
+            return this;
+        }
+
+        Builder add(Algorithm algorithm, String keyId) throws IllegalArgumentException {
+            Map<String, Algorithm> byKeyId =
+                    byNameAndKeyId.computeIfAbsent(algorithm.getName(), name -> new HashMap<>());
+            if (byKeyId.putIfAbsent(keyId, algorithm) != null) {
+                throw new IllegalArgumentException("An Algorithm named '" + algorithm.getName()
+                        + "' is already accepted for the key id '" + keyId + "'.");
+            }
+            return this;
+        }
+
+        AlgorithmTable build() {
+            Map<String, Map<String, Algorithm>> byNameAndKeyId = new HashMap<>();
+            for (Map.Entry<String, Map<String, Algorithm>> entry : this.byNameAndKeyId.entrySet()) {
+                byNameAndKeyId.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+            }
+            return new AlgorithmTable(Collections.unmodifiableMap(new HashMap<>(byName)),
+                    Collections.unmodifiableMap(byNameAndKeyId));
+        }
+    }
+}
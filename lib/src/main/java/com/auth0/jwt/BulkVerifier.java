@@ -0,0 +1,110 @@
+package com.auth0.jwt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Spreads the verification of a large list of tokens over an {@link ExecutorService}, writing each result
+ * at the index of its token so the order is kept. Workers share the verifier, whose Mac and Signature
+ * engines are pooled per key, so no crypto engine is looked up per token.
+ */
+final class BulkVerifier {
+
+    /**
+     * Number of tokens below which a fork-join task verifies its range instead of splitting it further.
+     */
+    static final int SPLIT_THRESHOLD = 256;
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private final JWTVerifier verifier;
+
+    BulkVerifier(JWTVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    List<VerificationResult> verifyAll(List<String> tokens, ExecutorService executor) {
+        List<String> source = tokens instanceof RandomAccess ? tokens : new ArrayList<>(tokens);
+        VerificationResult[] results = new VerificationResult[source.size()];
+        if (executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) executor).invoke(new VerifyRangeTask(source, results, 0, results.length));
+        } else {
+            verifyInChunks(source, results, executor);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void verifyInChunks(List<String> tokens, VerificationResult[] results, ExecutorService executor) {
+        int chunks = Math.min(tokens.size(), Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR);
+        if (chunks == 0) {
+            return;
+        }
+        int chunkSize = (tokens.size() + chunks - 1) / chunks;
+        List<Callable<Void>> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(tokens.size(), from + chunkSize);
+            tasks.add(() -> {
+                verifyRange(tokens, results, start, end);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The bulk verification was interrupted.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void verifyRange(List<String> tokens, VerificationResult[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = verifier.tryVerify(tokens.get(i));
+        }
+    }
+
+    private final class VerifyRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 8261657684473197624L;
+
+        private final List<String> tokens;
+        private final VerificationResult[] results;
+        private final int from;
+        private final int to;
+
+        VerifyRangeTask(List<String> tokens, VerificationResult[] results, int from, int to) {
+            this.tokens = tokens;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                verifyRange(tokens, results, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyRangeTask(tokens, results, from, middle),
+                    new VerifyRangeTask(tokens, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.auth0.jwt;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link Clock} that returns a timestamp cached by a single background ticker instead of reading the system
+ * time on every call, so reading it is a plain volatile read. The timestamp is refreshed every
+ * {@link #TICK_MILLIS} milliseconds and may lag behind the system time by that much, which doesn't matter for
+ * JWT time claims, as they only have seconds precision.
+ * <p>
+ * The ticker is a daemon thread shared by all the verifiers. It's started by the first read, and stops by itself
+ * once the clock wasn't read for {@link #IDLE_TICKS} ticks, so it doesn't outlive the application using it, e.g.
+ * across redeploys. The read that starts it again gets the system time.
+ * <p>
+ * This class is thread-safe.
+ */
+final class CoarseClock extends Clock {
+
+    static final long TICK_MILLIS = 100;
+    static final int IDLE_TICKS = 10;
+
+    private static final CoarseClock INSTANCE = new CoarseClock(ZoneOffset.UTC);
+    private static final AtomicBoolean ticking = new AtomicBoolean();
+
+    private static volatile long currentMillis;
+    // Whether the clock was read since the last tick
+    private static volatile boolean read;
+
+    private final ZoneId zone;
+
+    private CoarseClock(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Getter for the shared coarse clock in UTC.
+     *
+     * @return the coarse clock.
+     */
+    static Clock getInstance() {
+        return INSTANCE;
+    }
+
+    //Visible for testing
+    static boolean isTicking() {
+        return ticking.get();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this.zone.equals(zone) ? this : new CoarseClock(zone);
+    }
+
+    @Override
+    public long millis() {
+        if (!ticking.get()) {
+            return startTicker();
+        }
+        if (!read) {
+            // Only written once per tick, to keep the readers from contending on it
+            read = true;
+        }
+        return currentMillis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + zone + "]";
+    }
+
+    private static long startTicker() {
+        long now = System.currentTimeMillis();
+        if (ticking.compareAndSet(false, true)) {
+            currentMillis = now;
+            read = true;
+            Thread ticker = new Thread(CoarseClock::tick, "jwt-coarse-clock");
+            ticker.setDaemon(true);
+            ticker.start();
+        }
+        return now;
+    }
+
+    private static void tick() {
+        int idleTicks = 0;
+        try {
+            while (idleTicks < IDLE_TICKS) {
+                Thread.sleep(TICK_MILLIS);
+                currentMillis = System.currentTimeMillis();
+                if (read) {
+                    read = false;
+                    idleTicks = 0;
+                } else {
+                    idleTicks++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ticking.set(false);
+        }
+    }
+}
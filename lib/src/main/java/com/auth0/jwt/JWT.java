@@ -6,6 +6,8 @@ import com.auth0.jwt.impl.JWTParser;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Verification;
 
+import java.nio.ByteBuffer;
+
 /**
  * Exposes all the JWT functionalities.
  */
@@ -37,6 +39,49 @@ public class JWT {
         return new JWTDecoder(parser, token);
     }
 
+    /**
+     * Decode a given Json Web Token stored in a region of a byte array, such as a request buffer.
+     * The Header and Payload are decoded and parsed straight from the bytes, without intermediate Strings.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token  the bytes holding the token with jwt format.
+     * @param offset the index of the first byte of the token.
+     * @param length the number of bytes of the token.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException       if any part of the token contained an invalid jwt
+     *                                  or JSON format of each of the jwt parts.
+     * @throws IllegalArgumentException if the offset and length are out of the array's bounds.
+     */
+    public DecodedJWT decodeJwt(byte[] token, int offset, int length) throws JWTDecodeException {
+        return new JWTDecoder(parser, token, offset, length);
+    }
+
+    /**
+     * Decode a given Json Web Token stored in the remaining bytes of a buffer.
+     * The buffer's position is not modified.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token the buffer holding the token with jwt format between its position and limit.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException if any part of the token contained an invalid jwt
+     *                            or JSON format of each of the jwt parts.
+     */
+    public DecodedJWT decodeJwt(ByteBuffer token) throws JWTDecodeException {
+        if (token == null) {
+            throw new JWTDecodeException("The token is null.");
+        }
+        if (token.hasArray()) {
+            return decodeJwt(token.array(), token.arrayOffset() + token.position(), token.remaining());
+        }
+        byte[] bytes = new byte[token.remaining()];
+        token.duplicate().get(bytes);
+        return decodeJwt(bytes, 0, bytes.length);
+    }
+
     /**
      * Decode a given Json Web Token.
      * <p>
@@ -4,12 +4,16 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.impl.*;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
@@ -25,9 +29,15 @@ import java.util.Map.Entry;
 public final class JWTCreator {
 
     private final Algorithm algorithm;
-    private final String headerJson;
-    private final String payloadJson;
-
+    private final byte[] header;
+    private final byte[] payloadJson;
+    private final JWTMetrics metrics;
+    private final long startNanos;
+    private final String keyId;
+    private final Object event;
+
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
     private static final ObjectMapper mapper;
     private static final SimpleModule module;
 
@@ -42,12 +52,67 @@ public final class JWTCreator {
                 .registerModule(module);
     }
 
-    private JWTCreator(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims)
-            throws JWTCreationException {
+    private JWTCreator(Algorithm algorithm, byte[] header, byte[] payloadJson, JWTMetrics metrics,
+                       long startNanos, String keyId, Object event) {
         this.algorithm = algorithm;
+        this.header = header;
+        this.payloadJson = payloadJson;
+        this.metrics = metrics;
+        this.startNanos = startNanos;
+        this.keyId = keyId;
+        this.event = event;
+    }
+
+    /**
+     * Serializes the claims of a new token, ready to be signed.
+     *
+     * @param algorithm     used to sign the JWT
+     * @param header        the already encoded Header, or null to encode the given Header claims.
+     * @param headerClaims  the Header claims, when the Header is not already encoded.
+     * @param payloadClaims the Payload claims.
+     * @param keyId         the "kid" of the Header, or null.
+     * @param metrics       the metrics receiving the timings, or null.
+     * @return a new JWTCreator.
+     * @throws JWTCreationException if the claims could not be converted to a valid JSON.
+     */
+    private static JWTCreator create(Algorithm algorithm, byte[] header, Map<String, Object> headerClaims,
+                                     Map<String, Object> payloadClaims, String keyId, JWTMetrics metrics)
+            throws JWTCreationException {
+        Object event = JWTEvents.beginSigning();
+        long start = metrics != null ? System.nanoTime() : 0;
+        try {
+            return new JWTCreator(algorithm, header != null ? header : encodeHeader(headerClaims),
+                    serializePayload(payloadClaims), metrics, start, keyId, event);
+        } catch (JWTCreationException e) {
+            if (metrics != null) {
+                long duration = System.nanoTime() - start;
+                metrics.recordStage(JWTMetrics.Stage.ENCODE, algorithm.getName(), duration);
+                metrics.recordSigning(algorithm.getName(), false, duration);
+            }
+            JWTEvents.endSigning(event, algorithm.getName(), keyId, 0, e);
+            throw e;
+        }
+    }
+
+    private static String keyId(Map<String, Object> headerClaims) {
+        Object keyId = headerClaims.get(HeaderParams.KEY_ID);
+        return keyId instanceof String ? (String) keyId : null;
+    }
+
+    private static byte[] encodeHeader(Map<String, Object> headerClaims) throws JWTCreationException {
+        byte[] headerJson = serialize(new HeaderClaimsHolder(headerClaims));
+        byte[] header = new byte[encodedLength(headerJson.length)];
+        encode(headerJson, header, 0);
+        return header;
+    }
+
+    private static byte[] serializePayload(Map<String, Object> payloadClaims) throws JWTCreationException {
+        return serialize(new PayloadClaimsHolder(payloadClaims));
+    }
+
+    private static byte[] serialize(ClaimsHolder holder) throws JWTCreationException {
         try {
-            headerJson = mapper.writeValueAsString(new HeaderClaimsHolder(headerClaims));
-            payloadJson = mapper.writeValueAsString(new PayloadClaimsHolder(payloadClaims));
+            return mapper.writeValueAsBytes(holder);
         } catch (JsonProcessingException e) {
             throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
         }
@@ -69,6 +134,7 @@ public final class JWTCreator {
     public static class Builder {
         private final Map<String, Object> payloadClaims;
         private final Map<String, Object> headerClaims;
+        private JWTMetrics metrics;
 
         Builder() {
             this.payloadClaims = new LinkedHashMap<>();
@@ -581,6 +647,22 @@ public final class JWTCreator {
             }
         }
 
+        /**
+         * Reports the time spent encoding and signing the tokens created by this Builder and its templates, and
+         * whether they were signed, to the given metrics. By default, nothing is measured.
+         *
+         * @param metrics the metrics receiving the timings.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the metrics are null.
+         */
+        public Builder withMetrics(JWTMetrics metrics) throws IllegalArgumentException {
+            if (metrics == null) {
+                throw new IllegalArgumentException("The Metrics cannot be null.");
+            }
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Creates a new JWT and signs it with the given algorithm.
          *
@@ -591,6 +673,45 @@ public final class JWTCreator {
          *                                  or there was a problem with the signing key.
          */
         public String sign(Algorithm algorithm) throws IllegalArgumentException, JWTCreationException {
+            return creator(algorithm).sign();
+        }
+
+        /**
+         * Creates a new JWT, signs it with the given algorithm and writes its ASCII bytes into the given buffer,
+         * starting at its current position.
+         *
+         * @param algorithm used to sign the JWT
+         * @param target    the buffer receiving the token.
+         * @return the number of bytes written.
+         * @throws IllegalArgumentException if the provided algorithm or buffer is null.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws java.nio.BufferOverflowException if the token doesn't fit in the remaining space of the buffer,
+         *                                          in which case nothing is written.
+         */
+        public int sign(Algorithm algorithm, ByteBuffer target)
+                throws IllegalArgumentException, JWTCreationException {
+            assertTarget(target);
+            return creator(algorithm).sign(target);
+        }
+
+        /**
+         * Creates a new JWT, signs it with the given algorithm and writes its ASCII bytes to the given stream.
+         *
+         * @param algorithm used to sign the JWT
+         * @param target    the stream receiving the token.
+         * @throws IllegalArgumentException if the provided algorithm or stream is null.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws IOException              if the token couldn't be written to the stream.
+         */
+        public void sign(Algorithm algorithm, OutputStream target)
+                throws IllegalArgumentException, JWTCreationException, IOException {
+            assertTarget(target);
+            creator(algorithm).sign(target);
+        }
+
+        private JWTCreator creator(Algorithm algorithm) throws IllegalArgumentException, JWTCreationException {
             if (algorithm == null) {
                 throw new IllegalArgumentException("The Algorithm cannot be null.");
             }
@@ -602,7 +723,31 @@ public final class JWTCreator {
             if (signingKeyId != null) {
                 withKeyId(signingKeyId);
             }
-            return new JWTCreator(algorithm, headerClaims, payloadClaims).sign();
+            return create(algorithm, null, headerClaims, payloadClaims, keyId(headerClaims), metrics);
+        }
+
+        /**
+         * Creates a reusable {@link Template} that signs tokens with the given algorithm, the Header of this
+         * Builder and its Claims as fixed Payload Claims. The Header is serialized and encoded only once, here.
+         * Changes made to this Builder afterwards don't affect the template.
+         *
+         * @param algorithm used to sign the JWTs
+         * @return a new immutable template.
+         * @throws IllegalArgumentException if the provided algorithm is null.
+         * @throws JWTCreationException     if the Header claims could not be converted to a valid JSON.
+         */
+        public Template toTemplate(Algorithm algorithm) throws IllegalArgumentException, JWTCreationException {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("The Algorithm cannot be null.");
+            }
+            Map<String, Object> templateHeader = new LinkedHashMap<>(headerClaims);
+            templateHeader.put(HeaderParams.ALGORITHM, algorithm.getName());
+            templateHeader.putIfAbsent(HeaderParams.TYPE, "JWT");
+            String signingKeyId = algorithm.getSigningKeyId();
+            if (signingKeyId != null) {
+                templateHeader.put(HeaderParams.KEY_ID, signingKeyId);
+            }
+            return new Template(algorithm, templateHeader, payloadClaims, metrics);
         }
 
         private void assertNonNull(String name) {
@@ -616,16 +761,204 @@ public final class JWTCreator {
         }
     }
 
+    private static void assertTarget(Object target) {
+        if (target == null) {
+            throw new IllegalArgumentException("The target cannot be null.");
+        }
+    }
+
     private String sign() throws SignatureGenerationException {
-        String header = Base64.getUrlEncoder().withoutPadding()
-                .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
-        String payload = Base64.getUrlEncoder().withoutPadding()
-                .encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+        byte[] token = signToken();
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    private int sign(ByteBuffer target) throws SignatureGenerationException {
+        byte[] token = signToken();
+        target.put(token);
+        return token.length;
+    }
+
+    private void sign(OutputStream target) throws SignatureGenerationException, IOException {
+        byte[] token = signToken();
+        target.write(token);
+    }
+
+    /**
+     * Encodes the payload next to the already encoded header in a single buffer, and signs that buffer as is.
+     * The signature is then appended to a copy of the buffer sized for the whole token.
+     */
+    private byte[] signToken() throws SignatureGenerationException {
+        int payloadOffset = header.length + 1;
+        byte[] content = new byte[payloadOffset + encodedLength(payloadJson.length)];
+        System.arraycopy(header, 0, content, 0, header.length);
+        content[header.length] = '.';
+        encode(payloadJson, content, payloadOffset);
+
+        byte[] signature;
+        try {
+            signature = metrics != null ? signMeasured(content) : algorithm.sign(content, 0, content.length);
+        } catch (RuntimeException e) {
+            JWTEvents.endSigning(event, algorithm.getName(), keyId, content.length - payloadOffset, e);
+            throw e;
+        }
+        byte[] token = Arrays.copyOf(content, content.length + 1 + encodedLength(signature.length));
+        token[content.length] = '.';
+        encode(signature, token, content.length + 1);
+        if (metrics != null) {
+            metrics.recordSigning(algorithm.getName(), true, System.nanoTime() - startNanos);
+        }
+        JWTEvents.endSigning(event, algorithm.getName(), keyId, content.length - payloadOffset, null);
+        return token;
+    }
+
+    /**
+     * Signs the encoded content, reporting the time spent serializing and encoding the claims so far, and the
+     * time of the signature, to the metrics.
+     */
+    private byte[] signMeasured(byte[] content) throws SignatureGenerationException {
+        long signatureStart = System.nanoTime();
+        metrics.recordStage(JWTMetrics.Stage.ENCODE, algorithm.getName(), signatureStart - startNanos);
+        try {
+            byte[] signature = algorithm.sign(content, 0, content.length);
+            metrics.recordStage(JWTMetrics.Stage.SIGNATURE, algorithm.getName(), System.nanoTime() - signatureStart);
+            return signature;
+        } catch (SignatureGenerationException e) {
+            long end = System.nanoTime();
+            metrics.recordStage(JWTMetrics.Stage.SIGNATURE, algorithm.getName(), end - signatureStart);
+            metrics.recordSigning(algorithm.getName(), false, end - startNanos);
+            throw e;
+        }
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * Base64url encodes the given bytes without padding, writing them into the destination at the given offset.
+     * Unlike {@link Base64.Encoder#encode(byte[], byte[])}, the output doesn't have to start at index 0.
+     */
+    private static void encode(byte[] src, byte[] dst, int offset) {
+        int d = offset;
+        int whole = src.length - src.length % 3;
+        int i = 0;
+        for (; i < whole; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[d++] = BASE64_URL[bits >>> 18];
+            dst[d++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[d++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            dst[d++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = src.length - whole;
+        if (remaining > 0) {
+            int bits = (src[i] & 0xff) << 16 | (remaining == 2 ? (src[i + 1] & 0xff) << 8 : 0);
+            dst[d++] = BASE64_URL[bits >>> 18];
+            dst[d++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            if (remaining == 2) {
+                dst[d] = BASE64_URL[(bits >>> 6) & 0x3f];
+            }
+        }
+    }
+
+    /**
+     * An immutable token template holding the algorithm, a fixed Header and fixed Payload Claims. The Header is
+     * serialized and encoded once when the template is created, so signing a token only serializes its Payload.
+     * Templates are created with {@link Builder#toTemplate(Algorithm)}.
+     * <p>
+     * The "kid" of the algorithm's signing key is read when the template is created, so a new template must be
+     * created after the signing key changes.
+     * <p>
+     * This class is thread-safe.
+     */
+    public static final class Template {
+        private final Algorithm algorithm;
+        private final byte[] header;
+        private final Map<String, Object> payloadClaims;
+        private final JWTMetrics metrics;
+        private final String keyId;
+
+        private Template(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims,
+                         JWTMetrics metrics) throws JWTCreationException {
+            this.algorithm = algorithm;
+            this.header = encodeHeader(headerClaims);
+            this.keyId = keyId(headerClaims);
+            this.payloadClaims = Collections.unmodifiableMap(new LinkedHashMap<>(payloadClaims));
+            this.metrics = metrics;
+        }
 
-        byte[] signatureBytes = algorithm.sign(header.getBytes(StandardCharsets.UTF_8),
-                payload.getBytes(StandardCharsets.UTF_8));
-        String signature = Base64.getUrlEncoder().withoutPadding().encodeToString((signatureBytes));
+        /**
+         * Creates a new JWT with the fixed Claims of this template.
+         *
+         * @return a new JWT token
+         * @throws JWTCreationException if the claims could not be converted to a valid JSON
+         *                              or there was a problem with the signing key.
+         */
+        public String sign() throws JWTCreationException {
+            return sign(Collections.emptyMap());
+        }
+
+        /**
+         * Creates a new JWT with the fixed Claims of this template and the given per-token Claims, which
+         * override the fixed ones with the same name. The accepted types are the ones of
+         * {@link Builder#withPayload(Map)}.
+         *
+         * @param claims the per-token Claims, such as "sub", "iat", "exp" or "jti".
+         * @return a new JWT token
+         * @throws IllegalArgumentException if any of the claim keys is null, or if the values are not of
+         *                                  a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         */
+        public String sign(Map<String, ?> claims) throws IllegalArgumentException, JWTCreationException {
+            return creator(claims).sign();
+        }
+
+        /**
+         * Creates a new JWT with the fixed Claims of this template and the given per-token Claims, and writes
+         * its ASCII bytes into the given buffer, starting at its current position.
+         *
+         * @param claims the per-token Claims.
+         * @param target the buffer receiving the token.
+         * @return the number of bytes written.
+         * @throws IllegalArgumentException if the provided buffer is null, if any of the claim keys is null,
+         *                                  or if the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws java.nio.BufferOverflowException if the token doesn't fit in the remaining space of the buffer,
+         *                                          in which case nothing is written.
+         * @see #sign(Map)
+         */
+        public int sign(Map<String, ?> claims, ByteBuffer target)
+                throws IllegalArgumentException, JWTCreationException {
+            assertTarget(target);
+            return creator(claims).sign(target);
+        }
 
-        return String.format("%s.%s.%s", header, payload, signature);
+        /**
+         * Creates a new JWT with the fixed Claims of this template and the given per-token Claims, and writes
+         * its ASCII bytes to the given stream.
+         *
+         * @param claims the per-token Claims.
+         * @param target the stream receiving the token.
+         * @throws IllegalArgumentException if the provided stream is null, if any of the claim keys is null,
+         *                                  or if the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws IOException              if the token couldn't be written to the stream.
+         * @see #sign(Map)
+         */
+        public void sign(Map<String, ?> claims, OutputStream target)
+                throws IllegalArgumentException, JWTCreationException, IOException {
+            assertTarget(target);
+            creator(claims).sign(target);
+        }
+
+        private JWTCreator creator(Map<String, ?> claims) throws IllegalArgumentException, JWTCreationException {
+            Builder builder = new Builder();
+            // the fixed claims were already validated by the Builder that created this template
+            builder.payloadClaims.putAll(payloadClaims);
+            builder.withPayload(claims);
+            return create(algorithm, header, null, builder.payloadClaims, keyId, metrics);
+        }
     }
 }
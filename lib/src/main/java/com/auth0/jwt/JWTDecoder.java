@@ -2,14 +2,19 @@ package com.auth0.jwt;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.impl.StacklessExceptions;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Header;
 import com.auth0.jwt.interfaces.Payload;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
@@ -25,28 +30,141 @@ final class JWTDecoder implements DecodedJWT, Serializable {
 
     private static final long serialVersionUID = 1873362438023312895L;
 
-    private final String[] parts;
+    private volatile String[] parts;
     private final Header header;
-    private final Payload payload;
+    private volatile Payload payload;
+    private transient JWTParser converter;
+    // The token decoded from bytes, and the indexes of its two separators, until its parts are first requested
+    private transient byte[] token;
+    private transient int headerEnd;
+    private transient int payloadEnd;
 
     JWTDecoder(String jwt) throws JWTDecodeException {
         this(new JWTParser(), jwt);
     }
 
     JWTDecoder(JWTParser converter, String jwt) throws JWTDecodeException {
+        this(converter, jwt, false);
+    }
+
+    /**
+     * Decodes the given token. When {@code lazyPayload} is set only the Header is parsed here, and the Payload
+     * is decoded and parsed the first time one of its claims is requested, so that tokens rejected on their
+     * algorithm or signature never pay for it. In that case a malformed Payload is reported by the first
+     * claim getter instead of by this constructor.
+     *
+     * @param converter   the parser to use for the Header and Payload.
+     * @param jwt         the token to decode.
+     * @param lazyPayload whether to defer the Payload parsing until it's first accessed.
+     * @throws JWTDecodeException if the token or any of its eagerly parsed parts is not valid.
+     */
+    JWTDecoder(JWTParser converter, String jwt, boolean lazyPayload) throws JWTDecodeException {
         parts = TokenUtils.splitToken(jwt);
-        String headerJson;
-        String payloadJson;
+        header = converter.parseHeaderBytes(decodePart(parts[0]));
+        if (lazyPayload) {
+            this.converter = converter;
+        } else {
+            payload = converter.parsePayloadBytes(decodePart(parts[1]));
+        }
+    }
+
+    JWTDecoder(JWTParser converter, byte[] jwt, int offset, int length) throws JWTDecodeException {
+        this(converter, jwt, offset, length, false);
+    }
+
+    /**
+     * Decodes the token held by the given range of bytes. The Header and Payload are decoded and parsed straight
+     * from the bytes, and the three parts are only turned into Strings when they're requested, e.g. to verify the
+     * signature. The token is copied once, as the caller may reuse its buffer.
+     *
+     * @param converter   the parser to use for the Header and Payload.
+     * @param jwt         the bytes holding the token.
+     * @param offset      the index of the first byte of the token.
+     * @param length      the number of bytes of the token.
+     * @param lazyPayload whether to defer the Payload parsing until it's first accessed.
+     * @throws JWTDecodeException if the token or any of its eagerly parsed parts is not valid.
+     */
+    JWTDecoder(JWTParser converter, byte[] jwt, int offset, int length, boolean lazyPayload)
+            throws JWTDecodeException {
+        int[] separators = TokenUtils.splitToken(jwt, offset, length);
+        token = Arrays.copyOfRange(jwt, offset, offset + length);
+        headerEnd = separators[0] - offset;
+        payloadEnd = separators[1] - offset;
+        ByteBuffer headerJson = decodePart(token, 0, headerEnd);
+        header = converter.parseHeader(headerJson.array(),
+                headerJson.arrayOffset() + headerJson.position(), headerJson.remaining());
+        if (lazyPayload) {
+            this.converter = converter;
+        } else {
+            payload = parsePayload(converter);
+        }
+    }
+
+    private static byte[] decodePart(String part) throws JWTDecodeException {
         try {
-            headerJson = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
-            payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
-        } catch (NullPointerException e) {
-            throw new JWTDecodeException("The UTF-8 Charset isn't initialized.", e);
+            return Base64.getUrlDecoder().decode(part);
         } catch (IllegalArgumentException e) {
-            throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e);
+            throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e,
+                    StacklessExceptions.writableStackTrace());
         }
-        header = converter.parseHeader(headerJson);
-        payload = converter.parsePayload(payloadJson);
+    }
+
+    private static ByteBuffer decodePart(byte[] token, int offset, int length) throws JWTDecodeException {
+        try {
+            return Base64.getUrlDecoder().decode(ByteBuffer.wrap(token, offset, length));
+        } catch (IllegalArgumentException e) {
+            throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e,
+                    StacklessExceptions.writableStackTrace());
+        }
+    }
+
+    private Payload parsePayload(JWTParser converter) throws JWTDecodeException {
+        if (token == null) {
+            return converter.parsePayloadBytes(decodePart(parts[1]));
+        }
+        ByteBuffer payloadJson = decodePart(token, headerEnd + 1, payloadEnd - headerEnd - 1);
+        return converter.parsePayload(payloadJson.array(),
+                payloadJson.arrayOffset() + payloadJson.position(), payloadJson.remaining());
+    }
+
+    private String[] parts() {
+        String[] split = parts;
+        if (split == null) {
+            // The Base64 alphabet is a subset of ISO-8859-1, so this is a plain byte-to-char copy. Racing threads
+            // may both build the parts, but they produce equal Strings
+            split = new String[]{
+                    new String(token, 0, headerEnd, StandardCharsets.ISO_8859_1),
+                    new String(token, headerEnd + 1, payloadEnd - headerEnd - 1, StandardCharsets.ISO_8859_1),
+                    new String(token, payloadEnd + 1, token.length - payloadEnd - 1, StandardCharsets.ISO_8859_1)
+            };
+            parts = split;
+        }
+        return split;
+    }
+
+    /**
+     * Parses the Payload now if it was deferred, so its parsing can be measured apart from the claim checks.
+     *
+     * @throws JWTDecodeException if the Payload is not valid.
+     */
+    void parsePayload() throws JWTDecodeException {
+        payload();
+    }
+
+    private Payload payload() throws JWTDecodeException {
+        Payload parsed = payload;
+        if (parsed == null) {
+            // Racing threads may both parse the Payload, but they produce equivalent instances
+            parsed = parsePayload(converter);
+            payload = parsed;
+        }
+        return parsed;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        payload();
+        parts();
+        out.defaultWriteObject();
     }
 
     @Override
@@ -76,81 +194,97 @@ final class JWTDecoder implements DecodedJWT, Serializable {
 
     @Override
     public String getIssuer() {
-        return payload.getIssuer();
+        return payload().getIssuer();
     }
 
     @Override
     public String getSubject() {
-        return payload.getSubject();
+        return payload().getSubject();
     }
 
     @Override
     public List<String> getAudience() {
-        return payload.getAudience();
+        return payload().getAudience();
     }
 
     @Override
     public Date getExpiresAt() {
-        return payload.getExpiresAt();
+        return payload().getExpiresAt();
     }
 
     @Override
     public Instant getExpiresAtAsInstant() {
-        return payload.getExpiresAtAsInstant();
+        return payload().getExpiresAtAsInstant();
+    }
+
+    @Override
+    public long getExpiresAtAsEpochSecond() {
+        return payload().getExpiresAtAsEpochSecond();
     }
 
     @Override
     public Date getNotBefore() {
-        return payload.getNotBefore();
+        return payload().getNotBefore();
     }
 
     @Override
     public Instant getNotBeforeAsInstant() {
-        return  payload.getNotBeforeAsInstant();
+        return payload().getNotBeforeAsInstant();
+    }
+
+    @Override
+    public long getNotBeforeAsEpochSecond() {
+        return payload().getNotBeforeAsEpochSecond();
     }
 
     @Override
     public Date getIssuedAt() {
-        return payload.getIssuedAt();
+        return payload().getIssuedAt();
     }
 
     @Override
     public Instant getIssuedAtAsInstant() {
-        return payload.getIssuedAtAsInstant();
+        return payload().getIssuedAtAsInstant();
+    }
+
+    @Override
+    public long getIssuedAtAsEpochSecond() {
+        return payload().getIssuedAtAsEpochSecond();
     }
 
     @Override
     public String getId() {
-        return payload.getId();
+        return payload().getId();
     }
 
     @Override
     public Claim getClaim(String name) {
-        return payload.getClaim(name);
+        return payload().getClaim(name);
     }
 
     @Override
     public Map<String, Claim> getClaims() {
-        return payload.getClaims();
+        return payload().getClaims();
     }
 
     @Override
     public String getHeader() {
-        return parts[0];
+        return parts()[0];
     }
 
     @Override
     public String getPayload() {
-        return parts[1];
+        return parts()[1];
     }
 
     @Override
     public String getSignature() {
-        return parts[2];
+        return parts()[2];
     }
 
     @Override
     public String getToken() {
-        return String.format("%s.%s.%s", parts[0], parts[1], parts[2]);
+        String[] split = parts();
+        return String.format("%s.%s.%s", split[0], split[1], split[2]);
     }
 }
@@ -2,18 +2,27 @@ package com.auth0.jwt;
 
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.impl.JWTParser;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.interfaces.Payload;
 import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.impl.StacklessExceptions;
 import com.auth0.jwt.interfaces.Verification;
 
 import java.time.Clock;
-import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 /**
  * The JWTVerifier class holds the verify method to assert that a given Token has not only a proper JWT format,
@@ -25,12 +34,34 @@ import java.util.function.BiPredicate;
  */
 public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
     private final Algorithm algorithm;
+    private final AlgorithmTable algorithms;
     final List<ExpectedCheckHolder> expectedChecks;
+    private final List<ExpectedCheckHolder> preSignatureChecks;
+    private final List<ExpectedCheckHolder> postSignatureChecks;
+    private final List<ExpectedCheckHolder> cacheHitChecks;
+    private final VerifiedTokenCache tokenCache;
+    private final boolean stacklessExceptions;
+    private final JWTMetrics metrics;
     private final JWTParser parser;
 
     JWTVerifier(Algorithm algorithm, List<ExpectedCheckHolder> expectedChecks) {
+        this(algorithm, null, expectedChecks, Collections.emptyList(), Collections.emptyList(), null, false, null);
+    }
+
+    JWTVerifier(Algorithm algorithm, AlgorithmTable algorithms, List<ExpectedCheckHolder> expectedChecks,
+                List<ExpectedCheckHolder> preSignatureChecks, List<ExpectedCheckHolder> cacheHitChecks,
+                VerifiedTokenCache tokenCache, boolean stacklessExceptions, JWTMetrics metrics) {
         this.algorithm = algorithm;
+        this.algorithms = algorithms;
         this.expectedChecks = Collections.unmodifiableList(expectedChecks);
+        this.preSignatureChecks = Collections.unmodifiableList(new ArrayList<>(preSignatureChecks));
+        List<ExpectedCheckHolder> postSignatureChecks = new ArrayList<>(expectedChecks);
+        postSignatureChecks.removeAll(preSignatureChecks);
+        this.postSignatureChecks = Collections.unmodifiableList(postSignatureChecks);
+        this.cacheHitChecks = Collections.unmodifiableList(cacheHitChecks);
+        this.tokenCache = tokenCache;
+        this.stacklessExceptions = stacklessExceptions;
+        this.metrics = metrics;
         this.parser = new JWTParser();
     }
 
@@ -54,10 +85,18 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
      */
     public static class BaseVerification implements Verification {
         private final Algorithm algorithm;
+        private AlgorithmTable.Builder algorithms;
         private final List<ExpectedCheckHolder> expectedChecks;
+        private final List<ExpectedCheckHolder> cacheHitChecks;
+        private final List<ExpectedCheckHolder> screeningChecks;
+        private boolean checkClaimsBeforeSignature;
+        private boolean stacklessExceptions;
+        private boolean coarseClock;
+        private JWTMetrics metrics;
         private long defaultLeeway;
         private final Map<String, Long> customLeeways;
         private boolean ignoreIssuedAt;
+        private int verifiedTokenCacheSize;
         private Clock clock;
 
         BaseVerification(Algorithm algorithm) throws IllegalArgumentException {
@@ -67,20 +106,22 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
             this.algorithm = algorithm;
             this.expectedChecks = new ArrayList<>();
+            this.cacheHitChecks = new ArrayList<>();
+            this.screeningChecks = new ArrayList<>();
             this.customLeeways = new HashMap<>();
             this.defaultLeeway = 0;
         }
 
         @Override
         public Verification withIssuer(String... issuer) {
-            List<String> value = isNullOrEmpty(issuer) ? null : Arrays.asList(issuer);
-            addCheck(RegisteredClaims.ISSUER, ((claim, decodedJWT) -> {
+            Set<String> value = isNullOrEmpty(issuer) ? null : new HashSet<>(Arrays.asList(issuer));
+            addScreeningCheck(RegisteredClaims.ISSUER, ((claim, decodedJWT) -> {
                 if (verifyNull(claim, value)) {
                     return true;
                 }
                 if (value == null || !value.contains(claim.asString())) {
-                    throw new IncorrectClaimException(
-                            "The Claim 'iss' value doesn't match the required issuer.", RegisteredClaims.ISSUER, claim);
+                    throw new IncorrectClaimException("The Claim 'iss' value doesn't match the required issuer.",
+                            RegisteredClaims.ISSUER, claim, StacklessExceptions.writableStackTrace());
                 }
                 return true;
             }));
@@ -96,33 +137,15 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
         @Override
         public Verification withAudience(String... audience) {
-            List<String> value = isNullOrEmpty(audience) ? null : Arrays.asList(audience);
-            addCheck(RegisteredClaims.AUDIENCE, ((claim, decodedJWT) -> {
-                if (verifyNull(claim, value)) {
-                    return true;
-                }
-                if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, true)) {
-                    throw new IncorrectClaimException("The Claim 'aud' value doesn't contain the required audience.",
-                            RegisteredClaims.AUDIENCE, claim);
-                }
-                return true;
-            }));
+            Set<String> value = isNullOrEmpty(audience) ? null : new HashSet<>(Arrays.asList(audience));
+            addAudienceCheck(value, true);
             return this;
         }
 
         @Override
         public Verification withAnyOfAudience(String... audience) {
-            List<String> value = isNullOrEmpty(audience) ? null : Arrays.asList(audience);
-            addCheck(RegisteredClaims.AUDIENCE, ((claim, decodedJWT) -> {
-                if (verifyNull(claim, value)) {
-                    return true;
-                }
-                if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, false)) {
-                    throw new IncorrectClaimException("The Claim 'aud' value doesn't contain the required audience.",
-                            RegisteredClaims.AUDIENCE, claim);
-                }
-                return true;
-            }));
+            Set<String> value = isNullOrEmpty(audience) ? null : new HashSet<>(Arrays.asList(audience));
+            addAudienceCheck(value, false);
             return this;
         }
 
@@ -160,6 +183,59 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return this;
         }
 
+        @Override
+        public Verification withVerifiedTokenCache(int maxSize) throws IllegalArgumentException {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The cache size must be greater than zero.");
+            }
+            this.verifiedTokenCacheSize = maxSize;
+            return this;
+        }
+
+        @Override
+        public Verification checkClaimsBeforeSignature() {
+            this.checkClaimsBeforeSignature = true;
+            return this;
+        }
+
+        @Override
+        public Verification withStacklessExceptions() {
+            this.stacklessExceptions = true;
+            return this;
+        }
+
+        @Override
+        public Verification acceptAlgorithm(Algorithm algorithm) throws IllegalArgumentException {
+            assertNonNull(algorithm);
+            algorithmTable().add(algorithm);
+            return this;
+        }
+
+        @Override
+        public Verification acceptAlgorithm(Algorithm algorithm, String keyId) throws IllegalArgumentException {
+            assertNonNull(algorithm);
+            if (keyId == null) {
+                throw new IllegalArgumentException("The Key Id cannot be null.");
+            }
+            algorithmTable().add(algorithm, keyId);
+            return this;
+        }
+
+        @Override
+        public Verification withCoarseClock() {
+            this.coarseClock = true;
+            return this;
+        }
+
+        @Override
+        public Verification withMetrics(JWTMetrics metrics) throws IllegalArgumentException {
+            if (metrics == null) {
+                throw new IllegalArgumentException("The Metrics cannot be null.");
+            }
+            this.metrics = metrics;
+            return this;
+        }
+
         @Override
         public Verification withJWTId(String jwtId) {
             addCheck(RegisteredClaims.JWT_ID, ((claim, decodedJWT) ->
@@ -242,8 +318,9 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         public Verification withClaim(String name, BiPredicate<Claim, DecodedJWT> predicate)
                 throws IllegalArgumentException {
             assertNonNull(name);
-            addCheck(name, ((claim, decodedJWT) -> verifyNull(claim, predicate)
-                    || predicate.test(claim, decodedJWT)));
+            // The predicate may depend on more than the token's content, so it's also checked on cache hits
+            cacheHitChecks.add(addCheck(name, ((claim, decodedJWT) -> verifyNull(claim, predicate)
+                    || predicate.test(claim, decodedJWT))));
             return this;
         }
 
@@ -273,7 +350,7 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
         @Override
         public JWTVerifier build() {
-            return this.build(Clock.systemUTC());
+            return this.build(coarseClock ? CoarseClock.getInstance() : Clock.systemUTC());
         }
 
         /**
@@ -286,7 +363,14 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         public JWTVerifier build(Clock clock) {
             this.clock = clock;
             addMandatoryClaimChecks();
-            return new JWTVerifier(algorithm, expectedChecks);
+            VerifiedTokenCache tokenCache = verifiedTokenCacheSize > 0
+                    ? new VerifiedTokenCache(verifiedTokenCacheSize, getLeewayFor(RegisteredClaims.EXPIRES_AT), clock)
+                    : null;
+            List<ExpectedCheckHolder> preSignatureChecks = checkClaimsBeforeSignature
+                    ? screeningChecks
+                    : Collections.emptyList();
+            return new JWTVerifier(algorithm, algorithms != null ? algorithms.build() : null, expectedChecks,
+                    preSignatureChecks, cacheHitChecks, tokenCache, stacklessExceptions, metrics);
         }
 
         /**
@@ -304,16 +388,22 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             long notBeforeLeeway = getLeewayFor(RegisteredClaims.NOT_BEFORE);
             long issuedAtLeeway = getLeewayFor(RegisteredClaims.ISSUED_AT);
 
-            expectedChecks.add(constructExpectedCheck(RegisteredClaims.EXPIRES_AT, (claim, decodedJWT) ->
-                    assertValidInstantClaim(RegisteredClaims.EXPIRES_AT, claim, expiresAtLeeway, true)));
-            expectedChecks.add(constructExpectedCheck(RegisteredClaims.NOT_BEFORE, (claim, decodedJWT) ->
-                    assertValidInstantClaim(RegisteredClaims.NOT_BEFORE, claim, notBeforeLeeway, false)));
+            addTimeCheck(new InstantClaimCheck(RegisteredClaims.EXPIRES_AT, DecodedJWT::getExpiresAtAsEpochSecond,
+                    expiresAtLeeway, true, clock));
+            addTimeCheck(new InstantClaimCheck(RegisteredClaims.NOT_BEFORE, DecodedJWT::getNotBeforeAsEpochSecond,
+                    notBeforeLeeway, false, clock));
             if (!ignoreIssuedAt) {
-                expectedChecks.add(constructExpectedCheck(RegisteredClaims.ISSUED_AT, (claim, decodedJWT) ->
-                        assertValidInstantClaim(RegisteredClaims.ISSUED_AT, claim, issuedAtLeeway, false)));
+                addTimeCheck(new InstantClaimCheck(RegisteredClaims.ISSUED_AT, DecodedJWT::getIssuedAtAsEpochSecond,
+                        issuedAtLeeway, false, clock));
             }
         }
 
+        private void addTimeCheck(ExpectedCheckHolder check) {
+            expectedChecks.add(check);
+            cacheHitChecks.add(check);
+            screeningChecks.add(check);
+        }
+
         private boolean assertValidCollectionClaim(Claim claim, Object[] expectedClaimValue) {
             List<Object> claimArr;
             Object[] claimAsObject = claim.as(Object[].class);
@@ -336,36 +426,9 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return claimArr.containsAll(valueArr);
         }
 
-        private boolean assertValidInstantClaim(String claimName, Claim claim, long leeway, boolean shouldBeFuture) {
-            Instant claimVal = claim.asInstant();
-            Instant now = clock.instant().truncatedTo(ChronoUnit.SECONDS);
-            boolean isValid;
-            if (shouldBeFuture) {
-                isValid = assertInstantIsFuture(claimVal, leeway, now);
-                if (!isValid) {
-                    throw new TokenExpiredException(String.format("The Token has expired on %s.", claimVal), claimVal);
-                }
-            } else {
-                isValid = assertInstantIsLessThanOrEqualToNow(claimVal, leeway, now);
-                if (!isValid) {
-                    throw new IncorrectClaimException(
-                            String.format("The Token can't be used before %s.", claimVal), claimName, claim);
-                }
-            }
-            return true;
-        }
-
-        private boolean assertInstantIsFuture(Instant claimVal, long leeway, Instant now) {
-            return claimVal == null || now.minus(Duration.ofSeconds(leeway)).isBefore(claimVal);
-        }
-
-        private boolean assertInstantIsLessThanOrEqualToNow(Instant claimVal, long leeway, Instant now) {
-            return !(claimVal != null && now.plus(Duration.ofSeconds(leeway)).isBefore(claimVal));
-        }
-
         private boolean assertValidAudienceClaim(
                 List<String> actualAudience,
-                List<String> expectedAudience,
+                Set<String> expectedAudience,
                 boolean shouldContainAll
         ) {
             if (actualAudience == null || expectedAudience == null) {
@@ -374,8 +437,25 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
             if (shouldContainAll) {
                 return actualAudience.containsAll(expectedAudience);
-            } else {
-                return !Collections.disjoint(actualAudience, expectedAudience);
+            }
+            for (String audience : actualAudience) {
+                if (expectedAudience.contains(audience)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private AlgorithmTable.Builder algorithmTable() {
+            if (algorithms == null) {
+                algorithms = new AlgorithmTable.Builder().add(algorithm);
+            }
+            return algorithms;
+        }
+
+        private void assertNonNull(Algorithm algorithm) {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("The Algorithm cannot be null.");
             }
         }
 
@@ -391,13 +471,42 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             }
         }
 
-        private void addCheck(String name, BiPredicate<Claim, DecodedJWT> predicate) {
-            expectedChecks.add(constructExpectedCheck(name, (claim, decodedJWT) -> {
+        private void addScreeningCheck(String name, BiPredicate<Claim, DecodedJWT> predicate) {
+            screeningChecks.add(addCheck(name, predicate));
+        }
+
+        private void addAudienceCheck(Set<String> value, boolean shouldContainAll) {
+            ExpectedCheckHolder check = new RegisteredClaimCheck(
+                    constructExpectedCheck(RegisteredClaims.AUDIENCE, (claim, decodedJWT) -> {
+                        if (claim.isMissing()) {
+                            throw new MissingClaimException(RegisteredClaims.AUDIENCE,
+                                    StacklessExceptions.writableStackTrace());
+                        }
+                        if (verifyNull(claim, value)) {
+                            return true;
+                        }
+                        if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, shouldContainAll)) {
+                            throw new IncorrectClaimException(
+                                    "The Claim 'aud' value doesn't contain the required audience.",
+                                    RegisteredClaims.AUDIENCE, claim, StacklessExceptions.writableStackTrace());
+                        }
+                        return true;
+                    }),
+                    // A non-null audience means the claim is present and holds strings
+                    decodedJWT -> assertValidAudienceClaim(decodedJWT.getAudience(), value, shouldContainAll));
+            expectedChecks.add(check);
+            screeningChecks.add(check);
+        }
+
+        private ExpectedCheckHolder addCheck(String name, BiPredicate<Claim, DecodedJWT> predicate) {
+            ExpectedCheckHolder check = constructExpectedCheck(name, (claim, decodedJWT) -> {
                 if (claim.isMissing()) {
-                    throw new MissingClaimException(name);
+                    throw new MissingClaimException(name, StacklessExceptions.writableStackTrace());
                 }
                 return predicate.test(claim, decodedJWT);
-            }));
+            });
+            expectedChecks.add(check);
+            return check;
         }
 
         private ExpectedCheckHolder constructExpectedCheck(String claimName, BiPredicate<Claim, DecodedJWT> check) {
@@ -418,6 +527,108 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return value == null && claim.isNull();
         }
 
+        /**
+         * A check that first tries to accept the token from the value of a registered claim, as returned by
+         * the JWT's getter, and only reads the claim as a {@link Claim} when that value can't pass it.
+         */
+        private static final class RegisteredClaimCheck implements ExpectedCheckHolder {
+            private final ExpectedCheckHolder check;
+            private final Predicate<DecodedJWT> accepts;
+
+            RegisteredClaimCheck(ExpectedCheckHolder check, Predicate<DecodedJWT> accepts) {
+                this.check = check;
+                this.accepts = accepts;
+            }
+
+            @Override
+            public String getClaimName() {
+                return check.getClaimName();
+            }
+
+            @Override
+            public boolean verify(Claim claim, DecodedJWT decodedJWT) {
+                return check.verify(claim, decodedJWT);
+            }
+
+            @Override
+            public boolean verify(DecodedJWT decodedJWT) {
+                return accepts.test(decodedJWT) || check.verify(decodedJWT);
+            }
+        }
+
+        /**
+         * Checks one of the "exp", "nbf" or "iat" claims against the current time, comparing epoch seconds.
+         * The claim is only read as a {@link Claim} to describe a failure.
+         */
+        private static final class InstantClaimCheck implements ExpectedCheckHolder {
+            private final String claimName;
+            private final ToLongFunction<DecodedJWT> getter;
+            private final long leeway;
+            private final boolean shouldBeFuture;
+            private final Clock clock;
+
+            InstantClaimCheck(String claimName, ToLongFunction<DecodedJWT> getter, long leeway,
+                              boolean shouldBeFuture, Clock clock) {
+                this.claimName = claimName;
+                this.getter = getter;
+                this.leeway = leeway;
+                this.shouldBeFuture = shouldBeFuture;
+                this.clock = clock;
+            }
+
+            @Override
+            public String getClaimName() {
+                return claimName;
+            }
+
+            @Override
+            public boolean verify(Claim claim, DecodedJWT decodedJWT) {
+                Instant claimVal = claim.asInstant();
+                long claimSeconds = claimVal != null ? claimVal.getEpochSecond() : Payload.NO_EPOCH_SECOND;
+                return verify(claimSeconds, currentEpochSecond(), decodedJWT);
+            }
+
+            @Override
+            public boolean verify(DecodedJWT decodedJWT) {
+                return verify(decodedJWT, currentEpochSecond());
+            }
+
+            /**
+             * Runs the check against a current time read beforehand, so the clock can be read once for all the
+             * time checks of a token.
+             *
+             * @param decodedJWT the JWT on which verification is done
+             * @param now        the current time in epoch seconds, as returned by {@link #currentEpochSecond()}
+             * @return true, since a failed check throws.
+             */
+            boolean verify(DecodedJWT decodedJWT, long now) {
+                return verify(getter.applyAsLong(decodedJWT), now, decodedJWT);
+            }
+
+            long currentEpochSecond() {
+                return Math.floorDiv(clock.millis(), 1000L);
+            }
+
+            private boolean verify(long claimSeconds, long now, DecodedJWT decodedJWT) {
+                if (claimSeconds == Payload.NO_EPOCH_SECOND) {
+                    return true;
+                }
+                if (shouldBeFuture) {
+                    if (now - leeway >= claimSeconds) {
+                        Instant claimVal = Instant.ofEpochSecond(claimSeconds);
+                        throw new TokenExpiredException(
+                                String.format("The Token has expired on %s.", claimVal), claimVal,
+                                StacklessExceptions.writableStackTrace());
+                    }
+                } else if (claimSeconds - leeway > now) {
+                    throw new IncorrectClaimException(
+                            String.format("The Token can't be used before %s.", Instant.ofEpochSecond(claimSeconds)),
+                            claimName, decodedJWT.getClaim(claimName), StacklessExceptions.writableStackTrace());
+                }
+                return true;
+            }
+        }
+
         private boolean isNullOrEmpty(String[] args) {
             if (args == null || args.length == 0) {
                 return true;
@@ -448,8 +659,225 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
      */
     @Override
     public DecodedJWT verify(String token) throws JWTVerificationException {
-        DecodedJWT jwt = new JWTDecoder(parser, token);
-        return verify(jwt);
+        if (!stacklessExceptions) {
+            return verifyToken(token);
+        }
+        boolean previous = StacklessExceptions.enable();
+        try {
+            return verifyToken(token);
+        } finally {
+            StacklessExceptions.restore(previous);
+        }
+    }
+
+    private DecodedJWT verifyToken(String token) throws JWTVerificationException {
+        Object event = JWTEvents.beginVerification();
+        if (event == null) {
+            return verifyTokenSteps(token);
+        }
+        try {
+            DecodedJWT jwt = verifyTokenSteps(token);
+            JWTEvents.endVerification(event, token, jwt, null, null);
+            return jwt;
+        } catch (RuntimeException e) {
+            JWTEvents.endVerification(event, token, null, failureReason(e), e.getMessage());
+            throw e;
+        }
+    }
+
+    private DecodedJWT verifyTokenSteps(String token) throws JWTVerificationException {
+        if (metrics != null) {
+            return verifyTokenMeasured(token);
+        }
+        if (tokenCache != null) {
+            DecodedJWT cached = tokenCache.get(token);
+            if (cached != null) {
+                return verifyCached(token, cached);
+            }
+        }
+        // The Payload is only parsed once the claims are checked, after the algorithm and signature have passed
+        DecodedJWT jwt = verifyDecoded(new JWTDecoder(parser, token, true));
+        if (tokenCache != null) {
+            tokenCache.put(token, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Perform the verification against the given Token, using any previous configured options. When the
+     * algorithm gets its keys from an {@link com.auth0.jwt.interfaces.AsyncRSAKeyProvider} or an
+     * {@link com.auth0.jwt.interfaces.AsyncECDSAKeyProvider}, the calling thread doesn't wait for the key, and
+     * the signature and claims are verified on the thread completing the key lookup.
+     *
+     * @param token to verify.
+     * @return a future completed with the verified and decoded JWT, or completed exceptionally with a
+     *         {@link JWTVerificationException} if any of the verification steps fail.
+     */
+    @Override
+    public CompletableFuture<DecodedJWT> verifyAsync(String token) {
+        if (metrics == null) {
+            return verifyTokenAsync(token);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<DecodedJWT> result = new CompletableFuture<>();
+        verifyTokenAsync(token).whenComplete((jwt, error) -> {
+            long duration = System.nanoTime() - start;
+            if (error == null) {
+                metrics.recordVerification(jwt.getAlgorithm(), null, duration);
+                result.complete(jwt);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                VerificationResult.Reason reason = cause instanceof JWTVerificationException
+                        ? VerificationResult.reasonFor((JWTVerificationException) cause)
+                        : VerificationResult.Reason.OTHER;
+                metrics.recordVerification(null, reason, duration);
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<DecodedJWT> verifyTokenAsync(String token) {
+        DecodedJWT jwt;
+        CompletableFuture<Void> signatureCheck;
+        boolean previous = stacklessExceptions && StacklessExceptions.enable();
+        try {
+            if (tokenCache != null) {
+                DecodedJWT cached = tokenCache.get(token);
+                if (cached != null) {
+                    return CompletableFuture.completedFuture(verifyCached(token, cached));
+                }
+            }
+            jwt = new JWTDecoder(parser, token, true);
+            Algorithm algorithm = selectAlgorithm(jwt);
+            verifyClaims(jwt, preSignatureChecks);
+            signatureCheck = algorithm.verifyAsync(jwt);
+        } catch (JWTVerificationException e) {
+            CompletableFuture<DecodedJWT> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        } finally {
+            if (stacklessExceptions) {
+                StacklessExceptions.restore(previous);
+            }
+        }
+        return signatureCheck.thenApply(ignored -> {
+            boolean previousOnCompletion = stacklessExceptions && StacklessExceptions.enable();
+            try {
+                verifyClaims(jwt, postSignatureChecks);
+            } finally {
+                if (stacklessExceptions) {
+                    StacklessExceptions.restore(previousOnCompletion);
+                }
+            }
+            if (tokenCache != null) {
+                tokenCache.put(token, jwt);
+            }
+            return jwt;
+        });
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens, using any previous configured options.
+     * Unlike {@link #verify(String)}, a token failing the verification doesn't stop the batch: the reason is
+     * reported in its result instead, as done by {@link #tryVerify(String)}. Each token is verified on its own,
+     * key lookup included: nothing is set up once for the whole batch.
+     *
+     * @param tokens to verify.
+     * @return one result per token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the provided tokens are null.
+     */
+    public List<VerificationResult> verifyAll(Collection<String> tokens) throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The Tokens cannot be null.");
+        }
+        List<VerificationResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(tryVerify(token));
+        }
+        return results;
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens, using any previous configured options.
+     *
+     * @param tokens to verify.
+     * @return one result per token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the provided tokens are null.
+     * @see #verifyAll(Collection)
+     */
+    public List<VerificationResult> verifyAll(String... tokens) throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The Tokens cannot be null.");
+        }
+        return verifyAll(Arrays.asList(tokens));
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens in parallel, using the given executor.
+     * A {@link ForkJoinPool} splits the list recursively between its workers, any other executor gets
+     * the list in a few contiguous chunks. This method blocks until all the tokens are verified.
+     *
+     * @param tokens   to verify.
+     * @param executor the executor running the verification.
+     * @return one result per token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the provided tokens or executor are null.
+     * @throws IllegalStateException    if the calling thread is interrupted while waiting for the results.
+     * @see #verifyAll(Collection)
+     */
+    public List<VerificationResult> verifyAll(List<String> tokens, ExecutorService executor)
+            throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The Tokens cannot be null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("The ExecutorService cannot be null.");
+        }
+        return new BulkVerifier(this).verifyAll(tokens, executor);
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens in parallel, using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param tokens to verify.
+     * @return one result per token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the provided tokens are null.
+     * @see #verifyAll(List, ExecutorService)
+     */
+    public List<VerificationResult> verifyAllParallel(List<String> tokens) throws IllegalArgumentException {
+        return verifyAll(tokens, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Perform the verification against the given Token, using any previous configured options, and report
+     * a failure in the returned result instead of throwing. The exceptions created to describe the failures
+     * skip capturing their stack trace, so a rejected token costs about the same as an accepted one.
+     *
+     * @param token to verify.
+     * @return the verified and decoded JWT, or the reason and claim name of the failure.
+     */
+    public VerificationResult tryVerify(String token) {
+        boolean previous = StacklessExceptions.enable();
+        try {
+            return VerificationResult.success(verifyToken(token));
+        } catch (JWTVerificationException e) {
+            return VerificationResult.failure(e);
+        } finally {
+            StacklessExceptions.restore(previous);
+        }
+    }
+
+    private DecodedJWT verifyCached(String token, DecodedJWT cached) throws JWTVerificationException {
+        try {
+            verifyClaims(cached, cacheHitChecks);
+        } catch (JWTVerificationException e) {
+            tokenCache.remove(token);
+            throw e;
+        }
+        return cached;
     }
 
     /**
@@ -466,33 +894,199 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
      */
     @Override
     public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
-        verifyAlgorithm(jwt, algorithm);
+        if (!stacklessExceptions) {
+            return verifyGivenDecoded(jwt);
+        }
+        boolean previous = StacklessExceptions.enable();
+        try {
+            return verifyGivenDecoded(jwt);
+        } finally {
+            StacklessExceptions.restore(previous);
+        }
+    }
+
+    private DecodedJWT verifyGivenDecoded(DecodedJWT jwt) throws JWTVerificationException {
+        Object event = JWTEvents.beginVerification();
+        if (event == null) {
+            return verifyDecoded(jwt);
+        }
+        try {
+            verifyDecoded(jwt);
+            JWTEvents.endVerification(event, null, jwt, null, null);
+            return jwt;
+        } catch (RuntimeException e) {
+            JWTEvents.endVerification(event, null, jwt, failureReason(e), e.getMessage());
+            throw e;
+        }
+    }
+
+    private static String failureReason(RuntimeException e) {
+        VerificationResult.Reason reason = e instanceof JWTVerificationException
+                ? VerificationResult.reasonFor((JWTVerificationException) e)
+                : VerificationResult.Reason.OTHER;
+        return reason.name();
+    }
+
+    private DecodedJWT verifyDecoded(DecodedJWT jwt) throws JWTVerificationException {
+        if (metrics != null) {
+            return verifyDecodedMeasured(jwt);
+        }
+        Algorithm algorithm = selectAlgorithm(jwt);
+        verifyClaims(jwt, preSignatureChecks);
         algorithm.verify(jwt);
-        verifyClaims(jwt, expectedChecks);
+        verifyClaims(jwt, postSignatureChecks);
         return jwt;
     }
 
+    /**
+     * Same as {@link #verifyTokenSteps(String)}, reporting the time of each stage and the outcome to the metrics.
+     */
+    private DecodedJWT verifyTokenMeasured(String token) throws JWTVerificationException {
+        long start = System.nanoTime();
+        String algorithmName = null;
+        try {
+            DecodedJWT cached = tokenCache != null ? tokenCache.get(token) : null;
+            if (cached != null) {
+                algorithmName = cached.getAlgorithm();
+                try {
+                    verifyCached(token, cached);
+                } finally {
+                    metrics.recordStage(JWTMetrics.Stage.CLAIMS, algorithmName, System.nanoTime() - start);
+                }
+                metrics.recordVerification(algorithmName, null, System.nanoTime() - start);
+                return cached;
+            }
+            JWTDecoder jwt;
+            try {
+                jwt = new JWTDecoder(parser, token, true);
+            } catch (JWTDecodeException e) {
+                metrics.recordStage(JWTMetrics.Stage.DECODE, null, System.nanoTime() - start);
+                throw e;
+            }
+            algorithmName = jwt.getAlgorithm();
+            verifyStagesMeasured(jwt, System.nanoTime() - start);
+            if (tokenCache != null) {
+                tokenCache.put(token, jwt);
+            }
+            metrics.recordVerification(algorithmName, null, System.nanoTime() - start);
+            return jwt;
+        } catch (JWTVerificationException e) {
+            metrics.recordVerification(algorithmName, VerificationResult.reasonFor(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Same as {@link #verifyDecoded(DecodedJWT)}, reporting the time of each stage and the outcome to the metrics.
+     */
+    private DecodedJWT verifyDecodedMeasured(DecodedJWT jwt) throws JWTVerificationException {
+        long start = System.nanoTime();
+        try {
+            verifyStagesMeasured(jwt, -1);
+        } catch (JWTVerificationException e) {
+            metrics.recordVerification(jwt.getAlgorithm(), VerificationResult.reasonFor(e),
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordVerification(jwt.getAlgorithm(), null, System.nanoTime() - start);
+        return jwt;
+    }
+
+    /**
+     * Verifies the algorithm, signature and claims of the token, reporting the time of each stage. When the token
+     * was decoded by this verifier, its deferred Payload is parsed right before the first claim check and the
+     * parsing is added to the decode stage.
+     *
+     * @param jwt         the token to verify.
+     * @param decodeNanos the time spent decoding the Header of the token, or -1 if it wasn't decoded here.
+     */
+    private void verifyStagesMeasured(DecodedJWT jwt, long decodeNanos) throws JWTVerificationException {
+        String algorithmName = jwt.getAlgorithm();
+        boolean claimsFirst = !preSignatureChecks.isEmpty();
+        long claimsNanos = -1;
+        try {
+            Algorithm algorithm = selectAlgorithm(jwt);
+            if (claimsFirst) {
+                if (decodeNanos >= 0) {
+                    long parseStart = System.nanoTime();
+                    try {
+                        ((JWTDecoder) jwt).parsePayload();
+                    } finally {
+                        decodeNanos += System.nanoTime() - parseStart;
+                    }
+                }
+                long claimsStart = System.nanoTime();
+                try {
+                    verifyClaims(jwt, preSignatureChecks);
+                } finally {
+                    claimsNanos = System.nanoTime() - claimsStart;
+                }
+            }
+            algorithm.verify(jwt, metrics);
+            if (!claimsFirst && decodeNanos >= 0) {
+                long parseStart = System.nanoTime();
+                try {
+                    ((JWTDecoder) jwt).parsePayload();
+                } finally {
+                    decodeNanos += System.nanoTime() - parseStart;
+                }
+            }
+            long claimsStart = System.nanoTime();
+            try {
+                verifyClaims(jwt, postSignatureChecks);
+            } finally {
+                claimsNanos = Math.max(claimsNanos, 0) + System.nanoTime() - claimsStart;
+            }
+        } finally {
+            if (decodeNanos >= 0) {
+                metrics.recordStage(JWTMetrics.Stage.DECODE, algorithmName, decodeNanos);
+            }
+            if (claimsNanos >= 0) {
+                metrics.recordStage(JWTMetrics.Stage.CLAIMS, algorithmName, claimsNanos);
+            }
+        }
+    }
+
+    private Algorithm selectAlgorithm(DecodedJWT jwt) throws AlgorithmMismatchException {
+        if (algorithms != null) {
+            return algorithms.select(jwt);
+        }
+        verifyAlgorithm(jwt, algorithm);
+        return algorithm;
+    }
+
     private void verifyAlgorithm(DecodedJWT jwt, Algorithm expectedAlgorithm) throws AlgorithmMismatchException {
         if (!expectedAlgorithm.getName().equals(jwt.getAlgorithm())) {
             throw new AlgorithmMismatchException(
-                    "The provided Algorithm doesn't match the one defined in the JWT's Header.");
+                    "The provided Algorithm doesn't match the one defined in the JWT's Header.",
+                    StacklessExceptions.writableStackTrace());
         }
     }
 
     private void verifyClaims(DecodedJWT jwt, List<ExpectedCheckHolder> expectedChecks)
             throws TokenExpiredException, InvalidClaimException {
+        // The clock is read once per token, by the first time check
+        long now = 0;
+        boolean nowRead = false;
         for (ExpectedCheckHolder expectedCheck : expectedChecks) {
             boolean isValid;
-            String claimName = expectedCheck.getClaimName();
-            Claim claim = jwt.getClaim(claimName);
-
-            isValid = expectedCheck.verify(claim, jwt);
-
+            if (expectedCheck instanceof BaseVerification.InstantClaimCheck) {
+                BaseVerification.InstantClaimCheck timeCheck = (BaseVerification.InstantClaimCheck) expectedCheck;
+                if (!nowRead) {
+                    now = timeCheck.currentEpochSecond();
+                    nowRead = true;
+                }
+                isValid = timeCheck.verify(jwt, now);
+            } else {
+                isValid = expectedCheck.verify(jwt);
+            }
             if (!isValid) {
+                String claimName = expectedCheck.getClaimName();
                 throw new IncorrectClaimException(
-                        String.format("The Claim '%s' value doesn't match the required one.", claimName),
+                        "The Claim '" + claimName + "' value doesn't match the required one.",
                         claimName,
-                        claim
+                        jwt.getClaim(claimName),
+                        StacklessExceptions.writableStackTrace()
                 );
             }
         }
@@ -1,6 +1,7 @@
 package com.auth0.jwt;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.impl.StacklessExceptions;
 
 abstract class TokenUtils {
 
@@ -13,7 +14,7 @@ abstract class TokenUtils {
      */
     static String[] splitToken(String token) throws JWTDecodeException {
         if (token == null) {
-            throw new JWTDecodeException("The token is null.");
+            throw new JWTDecodeException("The token is null.", null, StacklessExceptions.writableStackTrace());
         }
 
         char delimiter = '.';
@@ -41,7 +42,55 @@ abstract class TokenUtils {
         return parts;
     }
 
+    /**
+     * Locates the two "." separators of the token stored in the given byte range, without copying it.
+     *
+     * @param token  the bytes holding the token.
+     * @param offset the index of the first byte of the token.
+     * @param length the number of bytes of the token.
+     * @return an array with the absolute indexes of the first and second separators.
+     * @throws JWTDecodeException if the Token doesn't have 3 parts.
+     */
+    static int[] splitToken(byte[] token, int offset, int length) throws JWTDecodeException {
+        if (token == null) {
+            throw new JWTDecodeException("The token is null.", null, StacklessExceptions.writableStackTrace());
+        }
+        if (offset < 0 || length < 0 || offset + length > token.length) {
+            throw new IllegalArgumentException("The given offset and length are out of the token's bounds.");
+        }
+
+        byte delimiter = (byte) '.';
+        int end = offset + length;
+
+        int firstPeriodIndex = indexOf(token, delimiter, offset, end);
+        if (firstPeriodIndex == -1) {
+            throw wrongNumberOfParts(0);
+        }
+
+        int secondPeriodIndex = indexOf(token, delimiter, firstPeriodIndex + 1, end);
+        if (secondPeriodIndex == -1) {
+            throw wrongNumberOfParts(2);
+        }
+
+        // too many ?
+        if (indexOf(token, delimiter, secondPeriodIndex + 1, end) != -1) {
+            throw wrongNumberOfParts("> 3");
+        }
+
+        return new int[]{firstPeriodIndex, secondPeriodIndex};
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private static JWTDecodeException wrongNumberOfParts(Object partCount) {
-        return new JWTDecodeException(String.format("The token was expected to have 3 parts, but got %s.", partCount));
+        return new JWTDecodeException(String.format("The token was expected to have 3 parts, but got %s.", partCount),
+                null, StacklessExceptions.writableStackTrace());
     }
 }
@@ -0,0 +1,150 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * The outcome of verifying a single token without throwing, as returned by {@link JWTVerifier#tryVerify(String)}
+ * and {@link JWTVerifier#verifyAll}. A result either holds the verified and decoded JWT, or the reason why the
+ * verification failed, along with the name of the claim at fault when there is one.
+ */
+public final class VerificationResult {
+
+    /**
+     * Why a token failed the verification.
+     */
+    public enum Reason {
+        /**
+         * The token doesn't have a valid JWT or JSON format.
+         */
+        MALFORMED_TOKEN,
+        /**
+         * The algorithm in the token's Header is not the one of the verifier.
+         */
+        ALGORITHM_MISMATCH,
+        /**
+         * The token's signature is invalid, or the key couldn't be used to verify it.
+         */
+        INVALID_SIGNATURE,
+        /**
+         * The token has expired.
+         */
+        TOKEN_EXPIRED,
+        /**
+         * A claim to be verified is missing.
+         */
+        MISSING_CLAIM,
+        /**
+         * A claim contained a different value than the expected one.
+         */
+        INCORRECT_CLAIM,
+        /**
+         * Any other verification failure.
+         */
+        OTHER
+    }
+
+    private final DecodedJWT jwt;
+    private final JWTVerificationException exception;
+    private final Reason reason;
+    private final String claimName;
+
+    private VerificationResult(DecodedJWT jwt, JWTVerificationException exception, Reason reason, String claimName) {
+        this.jwt = jwt;
+        this.exception = exception;
+        this.reason = reason;
+        this.claimName = claimName;
+    }
+
+    static VerificationResult success(DecodedJWT jwt) {
+        return new VerificationResult(jwt, null, null, null);
+    }
+
+    static VerificationResult failure(JWTVerificationException exception) {
+        if (exception instanceof TokenExpiredException) {
+            return new VerificationResult(null, exception, Reason.TOKEN_EXPIRED, RegisteredClaims.EXPIRES_AT);
+        }
+        if (exception instanceof IncorrectClaimException) {
+            String claimName = ((IncorrectClaimException) exception).getClaimName();
+            return new VerificationResult(null, exception, Reason.INCORRECT_CLAIM, claimName);
+        }
+        if (exception instanceof MissingClaimException) {
+            String claimName = ((MissingClaimException) exception).getClaimName();
+            return new VerificationResult(null, exception, Reason.MISSING_CLAIM, claimName);
+        }
+        return new VerificationResult(null, exception, reasonFor(exception), null);
+    }
+
+    /**
+     * Classifies a verification failure.
+     *
+     * @param exception the exception that made the verification fail.
+     * @return the reason of the failure.
+     */
+    static Reason reasonFor(JWTVerificationException exception) {
+        if (exception instanceof TokenExpiredException) {
+            return Reason.TOKEN_EXPIRED;
+        }
+        if (exception instanceof IncorrectClaimException) {
+            return Reason.INCORRECT_CLAIM;
+        }
+        if (exception instanceof MissingClaimException) {
+            return Reason.MISSING_CLAIM;
+        }
+        if (exception instanceof SignatureVerificationException) {
+            return Reason.INVALID_SIGNATURE;
+        }
+        if (exception instanceof AlgorithmMismatchException) {
+            return Reason.ALGORITHM_MISMATCH;
+        }
+        if (exception instanceof JWTDecodeException) {
+            return Reason.MALFORMED_TOKEN;
+        }
+        return Reason.OTHER;
+    }
+
+    /**
+     * Whether the token passed all the verification steps.
+     *
+     * @return true if the token is valid, false otherwise.
+     */
+    public boolean isValid() {
+        return exception == null;
+    }
+
+    /**
+     * Getter for the verified and decoded JWT.
+     *
+     * @return the verified JWT, or null if the verification failed.
+     */
+    public DecodedJWT getDecodedJWT() {
+        return jwt;
+    }
+
+    /**
+     * Getter for the reason the verification failed.
+     *
+     * @return the reason, or null if the token is valid.
+     */
+    public Reason getFailureReason() {
+        return reason;
+    }
+
+    /**
+     * Getter for the name of the claim that made the verification fail.
+     *
+     * @return the claim name, or null if the token is valid or the failure is not about a single claim.
+     */
+    public String getClaimName() {
+        return claimName;
+    }
+
+    /**
+     * Getter for the exception describing why the verification failed. The exception has no stack trace.
+     *
+     * @return the exception that made the verification fail, or null if the token is valid.
+     */
+    public JWTVerificationException getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,135 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Payload;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of tokens that already passed the signature and claims verification, keyed by the token itself.
+ * Keying by the full token means a hit can only happen for the exact same bytes that were verified before.
+ * Entries are evicted once their "exp" claim, plus the accepted leeway, is in the past, and at most
+ * {@link #MAX_AGE_SECONDS} after they were added, whether they have an "exp" claim or not. When the cache is full,
+ * the oldest entry is evicted to make room for a new one.
+ * <p>
+ * A cached token is accepted again without checking its signature, so a key removed from a key provider keeps
+ * validating the tokens it signed until they are evicted.
+ * <p>
+ * This class is thread-safe.
+ */
+final class VerifiedTokenCache {
+
+    /**
+     * The maximum time, in seconds, a token is kept after being verified.
+     */
+    static final long MAX_AGE_SECONDS = 300;
+
+    private final int maxSize;
+    private final long expiresAtLeeway;
+    private final Clock clock;
+    // Read without locking on lookups
+    private final Map<String, Entry> entries;
+    // The same entries, from the oldest to the newest. Guarded by itself, along with the writes to entries
+    private final Map<String, Entry> insertionOrder;
+    private long nextPurgeSecond;
+
+    VerifiedTokenCache(int maxSize, long expiresAtLeeway, Clock clock) {
+        this.maxSize = maxSize;
+        this.expiresAtLeeway = expiresAtLeeway;
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>();
+        this.insertionOrder = new LinkedHashMap<>();
+    }
+
+    /**
+     * Looks up a previously verified token.
+     *
+     * @param token the token as received.
+     * @return the decoded JWT from the previous verification, or null if the token is not cached or was evicted.
+     */
+    DecodedJWT get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.evictAfter < now()) {
+            remove(token);
+            return null;
+        }
+        return entry.jwt;
+    }
+
+    /**
+     * Adds a token that was just verified. When the cache is full, the expired entries are purged, at most once
+     * per second, and then the oldest entries are evicted until there is room for the token.
+     *
+     * @param token the token as received.
+     * @param jwt   the verified JWT.
+     */
+    void put(String token, DecodedJWT jwt) {
+        long now = now();
+        long evictAfter = now + MAX_AGE_SECONDS;
+        long expiresAt = jwt.getExpiresAtAsEpochSecond();
+        if (expiresAt != Payload.NO_EPOCH_SECOND) {
+            evictAfter = Math.min(evictAfter, expiresAt + expiresAtLeeway);
+        }
+        Entry entry = new Entry(jwt, evictAfter);
+        synchronized (insertionOrder) {
+            if (insertionOrder.size() >= maxSize && !insertionOrder.containsKey(token)) {
+                purgeExpired(now);
+                Iterator<String> oldest = insertionOrder.keySet().iterator();
+                while (insertionOrder.size() >= maxSize) {
+                    entries.remove(oldest.next());
+                    oldest.remove();
+                }
+            }
+            insertionOrder.put(token, entry);
+            entries.put(token, entry);
+        }
+    }
+
+    void remove(String token) {
+        synchronized (insertionOrder) {
+            insertionOrder.remove(token);
+            entries.remove(token);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private long now() {
+        return Math.floorDiv(clock.millis(), 1000L);
+    }
+
+    // Must hold the lock of insertionOrder
+    private void purgeExpired(long now) {
+        if (now < nextPurgeSecond) {
+            return;
+        }
+        nextPurgeSecond = now + 1;
+        Iterator<Map.Entry<String, Entry>> iterator = insertionOrder.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> next = iterator.next();
+            if (next.getValue().evictAfter < now) {
+                entries.remove(next.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final DecodedJWT jwt;
+        private final long evictAfter;
+
+        Entry(DecodedJWT jwt, long evictAfter) {
+            this.jwt = jwt;
+            this.evictAfter = evictAfter;
+        }
+    }
+}
@@ -4,9 +4,15 @@ import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 
+import java.security.Provider;
 import java.security.interfaces.*;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * The Algorithm class represents an algorithm to be used in the Signing or Verification process of a Token.
@@ -30,6 +36,21 @@ public abstract class Algorithm {
         return new RSAAlgorithm("RS256", "SHA256withRSA", keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA256withRSA. Tokens specify this as "RS256".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA256withRSA.
+     * @return a valid RSA256 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm RSA256WithSecurityProvider(RSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new RSAAlgorithm("RS256", "SHA256withRSA", keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA256withRSA. Tokens specify this as "RS256".
      *
@@ -66,6 +87,21 @@ public abstract class Algorithm {
         return new RSAAlgorithm("RS384", "SHA384withRSA", keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA384withRSA. Tokens specify this as "RS384".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA384withRSA.
+     * @return a valid RSA384 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm RSA384WithSecurityProvider(RSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new RSAAlgorithm("RS384", "SHA384withRSA", keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA384withRSA. Tokens specify this as "RS384".
      *
@@ -102,6 +138,21 @@ public abstract class Algorithm {
         return new RSAAlgorithm("RS512", "SHA512withRSA", keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA512withRSA. Tokens specify this as "RS512".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA512withRSA.
+     * @return a valid RSA512 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm RSA512WithSecurityProvider(RSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new RSAAlgorithm("RS512", "SHA512withRSA", keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA512withRSA. Tokens specify this as "RS512".
      *
@@ -211,6 +262,21 @@ public abstract class Algorithm {
         return new ECDSAAlgorithm("ES256", "SHA256withECDSA", 32, keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA256withECDSA. Tokens specify this as "ES256".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA256withECDSA.
+     * @return a valid ECDSA256 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm ECDSA256WithSecurityProvider(ECDSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new ECDSAAlgorithm("ES256", "SHA256withECDSA", 32, keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA256withECDSA. Tokens specify this as "ES256".
      *
@@ -247,6 +313,21 @@ public abstract class Algorithm {
         return new ECDSAAlgorithm("ES384", "SHA384withECDSA", 48, keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA384withECDSA. Tokens specify this as "ES384".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA384withECDSA.
+     * @return a valid ECDSA384 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm ECDSA384WithSecurityProvider(ECDSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new ECDSAAlgorithm("ES384", "SHA384withECDSA", 48, keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA384withECDSA. Tokens specify this as "ES384".
      *
@@ -283,6 +364,21 @@ public abstract class Algorithm {
         return new ECDSAAlgorithm("ES512", "SHA512withECDSA", 66, keyProvider);
     }
 
+    /**
+     * Creates a new Algorithm instance using SHA512withECDSA. Tokens specify this as "ES512".
+     * Every Signature engine is obtained from the given security provider instead of searching the
+     * installed providers.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @param provider    the security provider that implements SHA512withECDSA.
+     * @return a valid ECDSA512 Algorithm.
+     * @throws IllegalArgumentException if the Key Provider or the security provider is null.
+     */
+    public static Algorithm ECDSA512WithSecurityProvider(ECDSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        return new ECDSAAlgorithm("ES512", "SHA512withECDSA", 66, keyProvider, provider);
+    }
+
     /**
      * Creates a new Algorithm instance using SHA512withECDSA. Tokens specify this as "ES512".
      *
@@ -362,6 +458,59 @@ public abstract class Algorithm {
      */
     public abstract void verify(DecodedJWT jwt) throws SignatureVerificationException;
 
+    /**
+     * Verify the given token using this Algorithm instance, reporting the time spent to the given metrics. The
+     * RSA and ECDSA algorithms report the lookup of the Public Key apart from the signature check, the other
+     * algorithms report a single {@link JWTMetrics.Stage#SIGNATURE} stage.
+     *
+     * @param jwt     the already decoded JWT that it's going to be verified.
+     * @param metrics the metrics receiving the timings.
+     * @throws SignatureVerificationException if the Token's Signature is invalid,
+     *                                        meaning that it doesn't match the signatureBytes,
+     *                                        or if the Key is invalid.
+     */
+    public void verify(DecodedJWT jwt, JWTMetrics metrics) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        try {
+            verify(jwt);
+        } finally {
+            metrics.recordStage(JWTMetrics.Stage.SIGNATURE, getName(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Verify the given token using this Algorithm instance, without blocking on the resolution of the key
+     * when the key provider is asynchronous. By default, the token is verified on the calling thread.
+     *
+     * @param jwt the already decoded JWT that it's going to be verified.
+     * @return a future completed once the signature is verified, or completed exceptionally with a
+     *         {@link SignatureVerificationException} if the Token's Signature or the Key is invalid.
+     */
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            verify(jwt);
+            result.complete(null);
+        } catch (SignatureVerificationException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the actual failure of an asynchronous stage, which may be wrapped by the stages it went through.
+     *
+     * @param error the failure reported by a {@link CompletableFuture}.
+     * @return the underlying cause.
+     */
+    static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
     /**
      * Sign the given content using this Algorithm instance.
      *
@@ -383,6 +532,31 @@ public abstract class Algorithm {
         return sign(contentBytes);
     }
 
+    /**
+     * Sign the given range of an array using this Algorithm instance.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     * The default implementation copies the header and the payload out of the array and signs them with
+     * {@link #sign(byte[], byte[])}. The algorithms of this library sign the range in place.
+     *
+     * @param contentBytes an array of bytes holding the base64 encoded content to be signed.
+     * @param offset       the index of the first byte of the content.
+     * @param length       the number of bytes of the content.
+     * @return the signature in a base64 encoded array of bytes
+     * @throws SignatureGenerationException if the Key is invalid.
+     */
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        int end = offset + length;
+        int separator = offset;
+        while (separator < end && contentBytes[separator] != '.') {
+            separator++;
+        }
+        if (separator == end) {
+            return sign(Arrays.copyOfRange(contentBytes, offset, end));
+        }
+        return sign(Arrays.copyOfRange(contentBytes, offset, separator),
+                Arrays.copyOfRange(contentBytes, separator + 1, end));
+    }
+
     /**
      * Sign the given content using this Algorithm instance.
      * To get the correct JWT Signature, ensure the content is in the format {HEADER}.{PAYLOAD}
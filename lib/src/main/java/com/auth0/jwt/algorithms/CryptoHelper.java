@@ -4,6 +4,8 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Class used to perform the signature hash calculations.
@@ -14,6 +16,48 @@ class CryptoHelper {
 
     private static final byte JWT_PART_SEPARATOR = (byte) 46;
 
+    // Upper bound of keys with cached Signature engines, the cache is emptied when it's reached
+    static final int MAX_CACHED_KEYS = 64;
+
+    private final Provider provider;
+    private final SignatureEngineCache verifyEngines;
+    private final SignatureEngineCache signEngines;
+
+    /**
+     * The Mac engines for the last algorithm and secret used. Algorithms own their CryptoHelper and always pass the
+     * same secret array, so a single entry is enough to skip the provider lookup and key schedule on each call.
+     */
+    private volatile HmacEngines hmacEngines;
+
+    CryptoHelper() {
+        this(null);
+    }
+
+    /**
+     * Creates a CryptoHelper that obtains every Mac and Signature engine from the given provider.
+     *
+     * @param provider the provider to use, or null to use the highest-priority provider supporting the algorithm.
+     */
+    CryptoHelper(Provider provider) {
+        this.provider = provider;
+        this.verifyEngines = new SignatureEngineCache(false);
+        this.signEngines = new SignatureEngineCache(true);
+    }
+
+    /**
+     * Creates a CryptoHelper pinned to the given provider.
+     *
+     * @param provider the provider to obtain the engines from.
+     * @return a CryptoHelper that only uses the given provider.
+     * @throws IllegalArgumentException if the provider is null.
+     */
+    static CryptoHelper forProvider(Provider provider) throws IllegalArgumentException {
+        if (provider == null) {
+            throw new IllegalArgumentException("The Security Provider cannot be null.");
+        }
+        return new CryptoHelper(provider);
+    }
+
     /**
      * Verify signature for JWT header and payload.
      *
@@ -104,12 +148,51 @@ class CryptoHelper {
             byte[] payloadBytes,
             byte[] signatureBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        final Signature s = Signature.getInstance(algorithm);
-        s.initVerify(publicKey);
+        return verifySignatureFor(verifyEngines.get(algorithm, publicKey), headerBytes, payloadBytes, signatureBytes);
+    }
+
+    /**
+     * Verify signature for JWT header and payload using the public key of a {@link KeyIndex} entry. The entry
+     * keeps the Signature engines initialized with its key, so they don't have to be looked up by key.
+     *
+     * @param algorithm      algorithm name.
+     * @param entry          the entry holding the public key to use for verification.
+     * @param header         JWT header.
+     * @param payload        JWT payload.
+     * @param signatureBytes JWT signature.
+     * @return true if signature is valid.
+     * @throws NoSuchAlgorithmException if the algorithm is not supported.
+     * @throws InvalidKeyException      if the given key is inappropriate for initializing the specified algorithm.
+     */
+    boolean verifySignatureFor(
+            String algorithm,
+            KeyIndex.Entry<?> entry,
+            String header,
+            String payload,
+            byte[] signatureBytes
+    ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+        SignatureEngines engines = entry.verifyEngines;
+        if (engines == null || !engines.isFor(this, algorithm)) {
+            engines = new SignatureEngines(algorithm, entry.publicKey, false);
+            entry.verifyEngines = engines;
+        }
+        return verifySignatureFor(engines, header.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8), signatureBytes);
+    }
+
+    private boolean verifySignatureFor(
+            SignatureEngines engines,
+            byte[] headerBytes,
+            byte[] payloadBytes,
+            byte[] signatureBytes
+    ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+        final Signature s = engines.acquire();
         s.update(headerBytes);
         s.update(JWT_PART_SEPARATOR);
         s.update(payloadBytes);
-        return s.verify(signatureBytes);
+        boolean valid = s.verify(signatureBytes);
+        engines.release(s);
+        return valid;
     }
 
     /**
@@ -131,12 +214,14 @@ class CryptoHelper {
             byte[] headerBytes,
             byte[] payloadBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        final Signature s = Signature.getInstance(algorithm);
-        s.initSign(privateKey);
+        final SignatureEngines engines = signEngines.get(algorithm, privateKey);
+        final Signature s = engines.acquire();
         s.update(headerBytes);
         s.update(JWT_PART_SEPARATOR);
         s.update(payloadBytes);
-        return s.sign();
+        byte[] signature = s.sign();
+        engines.release(s);
+        return signature;
     }
 
     /**
@@ -156,11 +241,13 @@ class CryptoHelper {
             byte[] headerBytes,
             byte[] payloadBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException {
-        final Mac mac = Mac.getInstance(algorithm);
-        mac.init(new SecretKeySpec(secretBytes, algorithm));
+        final HmacEngines engines = hmacEnginesFor(algorithm, secretBytes);
+        final Mac mac = engines.acquire();
         mac.update(headerBytes);
         mac.update(JWT_PART_SEPARATOR);
-        return mac.doFinal(payloadBytes);
+        byte[] signature = mac.doFinal(payloadBytes);
+        engines.release(mac);
+        return signature;
     }
 
     /**
@@ -176,9 +263,30 @@ class CryptoHelper {
      */
     byte[] createSignatureFor(String algorithm, byte[] secretBytes, byte[] contentBytes)
             throws NoSuchAlgorithmException, InvalidKeyException {
-        final Mac mac = Mac.getInstance(algorithm);
-        mac.init(new SecretKeySpec(secretBytes, algorithm));
-        return mac.doFinal(contentBytes);
+        return createSignatureFor(algorithm, secretBytes, contentBytes, 0, contentBytes.length);
+    }
+
+    /**
+     * Create signature for a range of an array.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     *
+     * @param algorithm    algorithm name.
+     * @param secretBytes  algorithm secret.
+     * @param contentBytes the array holding the content to be signed.
+     * @param offset       the index of the first byte of the content.
+     * @param length       the number of bytes of the content.
+     * @return the signature bytes.
+     * @throws NoSuchAlgorithmException if the algorithm is not supported.
+     * @throws InvalidKeyException      if the given key is inappropriate for initializing the specified algorithm.
+     */
+    byte[] createSignatureFor(String algorithm, byte[] secretBytes, byte[] contentBytes, int offset, int length)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        final HmacEngines engines = hmacEnginesFor(algorithm, secretBytes);
+        final Mac mac = engines.acquire();
+        mac.update(contentBytes, offset, length);
+        byte[] signature = mac.doFinal();
+        engines.release(mac);
+        return signature;
     }
 
     /**
@@ -200,9 +308,182 @@ class CryptoHelper {
             PrivateKey privateKey,
             byte[] contentBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        final Signature s = Signature.getInstance(algorithm);
-        s.initSign(privateKey);
-        s.update(contentBytes);
-        return s.sign();
+        return createSignatureFor(algorithm, privateKey, contentBytes, 0, contentBytes.length);
+    }
+
+    /**
+     * Create signature for a range of an array using a private key.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     *
+     * @param algorithm    algorithm name.
+     * @param privateKey   the private key to use for signing.
+     * @param contentBytes the array holding the content to be signed.
+     * @param offset       the index of the first byte of the content.
+     * @param length       the number of bytes of the content.
+     * @return the signature bytes.
+     * @throws NoSuchAlgorithmException if the algorithm is not supported.
+     * @throws InvalidKeyException      if the given key is inappropriate for initializing the specified algorithm.
+     * @throws SignatureException       if this signature object is not initialized properly
+     *                                  or if this signature algorithm is unable to process the input data provided.
+     */
+    byte[] createSignatureFor(
+            String algorithm,
+            PrivateKey privateKey,
+            byte[] contentBytes,
+            int offset,
+            int length
+    ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+        final SignatureEngines engines = signEngines.get(algorithm, privateKey);
+        final Signature s = engines.acquire();
+        s.update(contentBytes, offset, length);
+        byte[] signature = s.sign();
+        engines.release(s);
+        return signature;
+    }
+
+    private HmacEngines hmacEnginesFor(String algorithm, byte[] secretBytes)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        HmacEngines engines = hmacEngines;
+        if (engines == null || !engines.isFor(algorithm, secretBytes)) {
+            engines = new HmacEngines(provider, algorithm, secretBytes);
+            hmacEngines = engines;
+        }
+        return engines;
+    }
+
+    /**
+     * Pool of Mac engines initialized with the same algorithm and secret. New engines are cloned from an
+     * initialized prototype, and are back in their initialized state after each {@link Mac#doFinal()} call.
+     */
+    private static final class HmacEngines {
+        private final Provider provider;
+        private final String algorithm;
+        private final byte[] secretBytes;
+        private final Mac prototype;
+        private final EnginePool<Mac> pool;
+
+        HmacEngines(Provider provider, String algorithm, byte[] secretBytes)
+                throws NoSuchAlgorithmException, InvalidKeyException {
+            this.provider = provider;
+            this.algorithm = algorithm;
+            this.secretBytes = secretBytes;
+            this.prototype = newMac();
+            this.pool = new EnginePool<>(this::copyPrototype);
+        }
+
+        boolean isFor(String algorithm, byte[] secretBytes) {
+            return this.secretBytes == secretBytes && this.algorithm.equals(algorithm);
+        }
+
+        Mac acquire() throws NoSuchAlgorithmException, InvalidKeyException {
+            return acquireFrom(pool);
+        }
+
+        void release(Mac mac) {
+            pool.release(mac);
+        }
+
+        private Mac copyPrototype() throws NoSuchAlgorithmException, InvalidKeyException {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                // Not every provider supports cloning, fall back to a full initialization
+                return newMac();
+            }
+        }
+
+        private Mac newMac() throws NoSuchAlgorithmException, InvalidKeyException {
+            final Mac mac = provider == null ? Mac.getInstance(algorithm) : Mac.getInstance(algorithm, provider);
+            mac.init(new SecretKeySpec(secretBytes, algorithm));
+            return mac;
+        }
+    }
+
+    /**
+     * Pool of Signature engines initialized with the same algorithm and key. A Signature is back in its initialized
+     * state after each successful {@link Signature#sign()} or {@link Signature#verify(byte[])} call, so pooled
+     * engines skip both the provider lookup and the key initialization.
+     */
+    final class SignatureEngines {
+        private final String algorithm;
+        private final Key key;
+        private final boolean signing;
+        private final EnginePool<Signature> pool;
+
+        SignatureEngines(String algorithm, Key key, boolean signing) {
+            this.algorithm = algorithm;
+            this.key = key;
+            this.signing = signing;
+            this.pool = new EnginePool<>(this::newSignature);
+        }
+
+        boolean isFor(String algorithm, Key key) {
+            return this.key == key && this.algorithm.equals(algorithm);
+        }
+
+        boolean isFor(CryptoHelper owner, String algorithm) {
+            return CryptoHelper.this == owner && this.algorithm.equals(algorithm);
+        }
+
+        Signature acquire() throws NoSuchAlgorithmException, InvalidKeyException {
+            return acquireFrom(pool);
+        }
+
+        void release(Signature signature) {
+            pool.release(signature);
+        }
+
+        private Signature newSignature() throws NoSuchAlgorithmException, InvalidKeyException {
+            final Signature s = provider == null
+                    ? Signature.getInstance(algorithm) : Signature.getInstance(algorithm, provider);
+            if (signing) {
+                s.initSign((PrivateKey) key);
+            } else {
+                s.initVerify((PublicKey) key);
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Signature engine pools indexed by key. Key providers usually hand out the same instance for a given key id,
+     * so the last used pool is checked by identity before falling back to the map lookup.
+     */
+    private final class SignatureEngineCache {
+        private final boolean signing;
+        private final ConcurrentMap<Key, SignatureEngines> enginesByKey;
+        private volatile SignatureEngines last;
+
+        SignatureEngineCache(boolean signing) {
+            this.signing = signing;
+            this.enginesByKey = new ConcurrentHashMap<>();
+        }
+
+        SignatureEngines get(String algorithm, Key key) {
+            SignatureEngines engines = last;
+            if (engines != null && engines.isFor(algorithm, key)) {
+                return engines;
+            }
+            engines = enginesByKey.get(key);
+            if (engines == null || !engines.algorithm.equals(algorithm)) {
+                if (enginesByKey.size() >= MAX_CACHED_KEYS) {
+                    enginesByKey.clear();
+                }
+                engines = new SignatureEngines(algorithm, key, signing);
+                enginesByKey.put(key, engines);
+            }
+            last = engines;
+            return engines;
+        }
+    }
+
+    private static <T> T acquireFrom(EnginePool<T> pool) throws NoSuchAlgorithmException, InvalidKeyException {
+        try {
+            return pool.acquire();
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw e;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
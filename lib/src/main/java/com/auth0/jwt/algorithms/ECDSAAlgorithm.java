@@ -2,16 +2,23 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
+import com.auth0.jwt.impl.StacklessExceptions;
+import com.auth0.jwt.interfaces.AsyncECDSAKeyProvider;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.JWTMetrics;
 
 import java.math.BigInteger;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.security.SignatureException;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Subclass representing an Elliptic Curve signing algorithm
@@ -23,6 +30,7 @@ class ECDSAAlgorithm extends Algorithm {
     private final ECDSAKeyProvider keyProvider;
     private final CryptoHelper crypto;
     private final int ecNumberSize;
+    private volatile CurveOrder curveOrder;
 
     //Visible for testing
     ECDSAAlgorithm(CryptoHelper crypto, String id, String algorithm, int ecNumberSize, ECDSAKeyProvider keyProvider)
@@ -41,24 +49,113 @@ class ECDSAAlgorithm extends Algorithm {
         this(new CryptoHelper(), id, algorithm, ecNumberSize, keyProvider);
     }
 
+    ECDSAAlgorithm(String id, String algorithm, int ecNumberSize, ECDSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        this(CryptoHelper.forProvider(provider), id, algorithm, ecNumberSize, keyProvider);
+    }
+
     @Override
     public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        if (keyProvider instanceof ECDSAKeySet) {
+            KeyIndex.Entry<ECPublicKey> entry = getKeySetEntry(jwt.getKeyId());
+            verify(jwt, entry != null ? entry.publicKey : null, entry);
+            return;
+        }
+        verify(jwt, getPublicKeyById(jwt.getKeyId()));
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt, JWTMetrics metrics) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        KeyIndex.Entry<ECPublicKey> entry = null;
+        ECPublicKey publicKey;
+        try {
+            if (keyProvider instanceof ECDSAKeySet) {
+                entry = getKeySetEntry(jwt.getKeyId());
+                publicKey = entry != null ? entry.publicKey : null;
+            } else {
+                publicKey = getPublicKeyById(jwt.getKeyId());
+            }
+        } finally {
+            metrics.recordStage(JWTMetrics.Stage.KEY_LOOKUP, getName(), System.nanoTime() - start);
+        }
+        long signatureStart = System.nanoTime();
+        try {
+            verify(jwt, publicKey, entry);
+        } finally {
+            metrics.recordStage(JWTMetrics.Stage.SIGNATURE, getName(), System.nanoTime() - signatureStart);
+        }
+    }
+
+    /**
+     * Gets the Public Key from the key provider, recording the lookup as a Java Flight Recorder event. The
+     * exceptions thrown by the provider are wrapped as when verifying the signature.
+     */
+    private ECPublicKey getPublicKeyById(String keyId) throws SignatureVerificationException {
+        Object event = JWTEvents.beginKeyLookup();
+        ECPublicKey publicKey = null;
+        try {
+            publicKey = keyProvider.getPublicKeyById(keyId);
+            return publicKey;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
+        } finally {
+            JWTEvents.endKeyLookup(event, getName(), keyId, keyProvider, publicKey != null);
+        }
+    }
+
+    /**
+     * Gets the entry of the key set for the given Key Id, recording the lookup as a Java Flight Recorder event.
+     */
+    private KeyIndex.Entry<ECPublicKey> getKeySetEntry(String keyId) {
+        Object event = JWTEvents.beginKeyLookup();
+        KeyIndex.Entry<ECPublicKey> entry = ((ECDSAKeySet) keyProvider).index.get(keyId);
+        JWTEvents.endKeyLookup(event, getName(), keyId, keyProvider, entry != null);
+        return entry;
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt) {
+        if (!(keyProvider instanceof AsyncECDSAKeyProvider)) {
+            return super.verifyAsync(jwt);
+        }
+        Object event = JWTEvents.beginKeyLookup();
+        return ((AsyncECDSAKeyProvider) keyProvider).getPublicKeyByIdAsync(jwt.getKeyId())
+                .handle((publicKey, error) -> {
+                    JWTEvents.endKeyLookup(event, getName(), jwt.getKeyId(), keyProvider, publicKey != null);
+                    if (error != null) {
+                        throw new SignatureVerificationException(this, unwrap(error));
+                    }
+                    verify(jwt, publicKey);
+                    return null;
+                });
+    }
+
+    private void verify(DecodedJWT jwt, ECPublicKey publicKey) throws SignatureVerificationException {
+        verify(jwt, publicKey, null);
+    }
+
+    private void verify(DecodedJWT jwt, ECPublicKey publicKey, KeyIndex.Entry<ECPublicKey> entry)
+            throws SignatureVerificationException {
         try {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
-            ECPublicKey publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
             if (publicKey == null) {
                 throw new IllegalStateException("The given Public Key is null.");
             }
             validateSignatureStructure(signatureBytes, publicKey);
-            boolean valid = crypto.verifySignatureFor(
-                    getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), JOSEToDER(signatureBytes));
+            byte[] derSignature = JOSEToDER(signatureBytes);
+            boolean valid = entry != null
+                    ? crypto.verifySignatureFor(
+                            getDescription(), entry, jwt.getHeader(), jwt.getPayload(), derSignature)
+                    : crypto.verifySignatureFor(
+                            getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), derSignature);
 
             if (!valid) {
-                throw new SignatureVerificationException(this);
+                throw new SignatureVerificationException(this, null, StacklessExceptions.writableStackTrace());
             }
         } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException
                 | IllegalStateException | IllegalArgumentException e) {
-            throw new SignatureVerificationException(this, e);
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
         }
     }
 
@@ -90,6 +187,20 @@ class ECDSAAlgorithm extends Algorithm {
         }
     }
 
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            ECPrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            byte[] signature = crypto.createSignatureFor(getDescription(), privateKey, contentBytes, offset, length);
+            return DERToJOSE(signature);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
     @Override
     public String getSigningKeyId() {
         return keyProvider.getPrivateKeyId();
@@ -162,21 +273,17 @@ class ECDSAAlgorithm extends Algorithm {
             throw new SignatureException("Invalid JOSE signature format.");
         }
 
-        if (isAllZeros(joseSignature)) {
+        if (isAllZeros(joseSignature, 0, joseSignature.length)) {
             throw new SignatureException("Invalid signature format.");
         }
 
-        // get R
-        byte[] rBytes = new byte[ecNumberSize];
-        System.arraycopy(joseSignature, 0, rBytes, 0, ecNumberSize);
-        if (isAllZeros(rBytes)) {
+        // check R
+        if (isAllZeros(joseSignature, 0, ecNumberSize)) {
             throw new SignatureException("Invalid signature format.");
         }
 
-        // get S
-        byte[] sBytes = new byte[ecNumberSize];
-        System.arraycopy(joseSignature, ecNumberSize, sBytes, 0, ecNumberSize);
-        if (isAllZeros(sBytes)) {
+        // check S
+        if (isAllZeros(joseSignature, ecNumberSize, joseSignature.length)) {
             throw new SignatureException("Invalid signature format.");
         }
 
@@ -191,20 +298,54 @@ class ECDSAAlgorithm extends Algorithm {
             throw new SignatureException("Invalid JOSE signature format.");
         }
 
-        BigInteger order = publicKey.getParams().getOrder();
-        BigInteger r = new BigInteger(1, rBytes);
-        BigInteger s = new BigInteger(1, sBytes);
-
         // R and S must be less than N
-        if (order.compareTo(r) < 1) {
+        byte[] order = curveOrder(publicKey);
+        if (!isLessThan(joseSignature, 0, order)) {
             throw new SignatureException("Invalid signature format.");
         }
 
-        if (order.compareTo(s) < 1) {
+        if (!isLessThan(joseSignature, ecNumberSize, order)) {
             throw new SignatureException("Invalid signature format.");
         }
     }
 
+    /**
+     * Gets the order N of the key's curve as unsigned big-endian bytes without leading zeros. The bytes are
+     * cached, since all the keys used with an algorithm instance are normally on the same curve.
+     */
+    private byte[] curveOrder(ECPublicKey publicKey) {
+        BigInteger order = publicKey.getParams().getOrder();
+        CurveOrder cached = curveOrder;
+        if (cached == null || !cached.order.equals(order)) {
+            cached = new CurveOrder(order);
+            curveOrder = cached;
+        }
+        return cached.bytes;
+    }
+
+    /**
+     * Compares, as unsigned big-endian numbers, the {@code ecNumberSize} bytes of the signature starting at the
+     * given offset with the given order bytes.
+     */
+    private boolean isLessThan(byte[] signature, int offset, byte[] order) {
+        int extra = ecNumberSize - order.length;
+        if (extra < 0) {
+            // the order has more bytes than the number can hold
+            return true;
+        }
+        if (!isAllZeros(signature, offset, offset + extra)) {
+            return false;
+        }
+        for (int i = 0; i < order.length; i++) {
+            int value = signature[offset + extra + i] & 0xff;
+            int limit = order[i] & 0xff;
+            if (value != limit) {
+                return value < limit;
+            }
+        }
+        return false;
+    }
+
     //Visible for testing
     byte[] JOSEToDER(byte[] joseSignature) throws SignatureException {
         // Retrieve R and S number's length and padding.
@@ -264,9 +405,9 @@ class ECDSAAlgorithm extends Algorithm {
         return derSignature;
     }
 
-    private boolean isAllZeros(byte[] bytes) {
-        for (byte b : bytes) {
-            if (b != 0) {
+    private static boolean isAllZeros(byte[] bytes, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (bytes[i] != 0) {
                 return false;
             }
         }
@@ -303,4 +444,20 @@ class ECDSAAlgorithm extends Algorithm {
             }
         };
     }
+
+    private static final class CurveOrder {
+        private final BigInteger order;
+        private final byte[] bytes;
+
+        CurveOrder(BigInteger order) {
+            this.order = order;
+            byte[] magnitude = order.toByteArray();
+            // drop the sign byte
+            int leadingZeros = 0;
+            while (leadingZeros < magnitude.length - 1 && magnitude[leadingZeros] == 0) {
+                leadingZeros++;
+            }
+            this.bytes = Arrays.copyOfRange(magnitude, leadingZeros, magnitude.length);
+        }
+    }
 }
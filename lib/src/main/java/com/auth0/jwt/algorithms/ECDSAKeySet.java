@@ -0,0 +1,113 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ECDSAKeyProvider} holding a set of EC Public Keys indexed by key id, for verifying tokens signed by any of
+ * several keys. The key matching the "kid" of the token's Header is found with a single hash lookup, without
+ * locking, and the keys can be rotated at any time without blocking the verification. When used with
+ * {@link Algorithm#ECDSA256(ECDSAKeyProvider)} and the other ECDSA algorithms, the Signature engines initialized with
+ * each key are kept along with the key.
+ * <p>
+ * Tokens without a "kid", or with one that's not in the set, fail the signature verification.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ECDSAKeySet implements ECDSAKeyProvider {
+
+    final KeyIndex<ECPublicKey> index;
+    private final ECPrivateKey privateKey;
+    private final String privateKeyId;
+
+    private ECDSAKeySet(Map<String, ? extends ECPublicKey> publicKeys, ECPrivateKey privateKey, String privateKeyId)
+            throws IllegalArgumentException {
+        this.index = new KeyIndex<>(publicKeys);
+        this.privateKey = privateKey;
+        this.privateKeyId = privateKeyId;
+    }
+
+    /**
+     * Creates a key set to verify tokens.
+     *
+     * @param publicKeys the Public Keys by key id.
+     * @return a new key set.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public static ECDSAKeySet of(Map<String, ? extends ECPublicKey> publicKeys) throws IllegalArgumentException {
+        return new ECDSAKeySet(publicKeys, null, null);
+    }
+
+    /**
+     * Creates a key set to verify tokens, and to sign them with the given Private Key.
+     *
+     * @param publicKeys   the Public Keys by key id.
+     * @param privateKeyId the key id to put in the Header of the signed tokens, or null.
+     * @param privateKey   the Private Key to sign the tokens with.
+     * @return a new key set.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public static ECDSAKeySet of(Map<String, ? extends ECPublicKey> publicKeys, String privateKeyId,
+                               ECPrivateKey privateKey) throws IllegalArgumentException {
+        return new ECDSAKeySet(publicKeys, privateKey, privateKeyId);
+    }
+
+    /**
+     * Replaces all the Public Keys of the set at once. Threads verifying a token see either the previous or the
+     * new keys, never a mix of both.
+     *
+     * @param publicKeys the new Public Keys by key id.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public void replaceAll(Map<String, ? extends ECPublicKey> publicKeys) throws IllegalArgumentException {
+        index.replaceAll(publicKeys);
+    }
+
+    /**
+     * Adds a Public Key to the set, replacing the key with the same id if there's one.
+     *
+     * @param keyId     the key id.
+     * @param publicKey the Public Key.
+     * @throws IllegalArgumentException if the key id or the key is null.
+     */
+    public void put(String keyId, ECPublicKey publicKey) throws IllegalArgumentException {
+        index.put(keyId, publicKey);
+    }
+
+    /**
+     * Removes a Public Key from the set.
+     *
+     * @param keyId the key id.
+     */
+    public void remove(String keyId) {
+        index.remove(keyId);
+    }
+
+    /**
+     * Getter for the ids of the Public Keys currently in the set.
+     *
+     * @return an unmodifiable snapshot of the key ids.
+     */
+    public Set<String> getKeyIds() {
+        return index.getKeyIds();
+    }
+
+    @Override
+    public ECPublicKey getPublicKeyById(String keyId) {
+        return index.getPublicKey(keyId);
+    }
+
+    @Override
+    public ECPrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return privateKeyId;
+    }
+}
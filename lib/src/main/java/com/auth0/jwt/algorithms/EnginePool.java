@@ -0,0 +1,86 @@
+package com.auth0.jwt.algorithms;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free pool of initialized crypto engines such as {@link javax.crypto.Mac} or
+ * {@link java.security.Signature} instances, so that they are not looked up and initialized on every operation.
+ * An engine is only used by one thread between {@link #acquire()} and {@link #release(Object)}. When the pool
+ * is empty a new engine is created, and engines released to a full pool are dropped.
+ * <p>
+ * This class is thread-safe and never blocks, so it can be used from platform and virtual threads alike.
+ *
+ * @param <T> the type of the pooled engine
+ */
+final class EnginePool<T> {
+
+    static final int DEFAULT_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * Creates new, ready to use engines for the pool.
+     *
+     * @param <T> the type of the engine
+     */
+    @FunctionalInterface
+    interface EngineFactory<T> {
+        T create() throws GeneralSecurityException;
+    }
+
+    private final EngineFactory<T> factory;
+    private final AtomicReferenceArray<T> slots;
+
+    EnginePool(EngineFactory<T> factory) {
+        this(factory, DEFAULT_SIZE);
+    }
+
+    EnginePool(EngineFactory<T> factory, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The pool size must be greater than zero.");
+        }
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Takes an idle engine from the pool, or creates a new one if none is available.
+     *
+     * @return an engine for the exclusive use of the caller.
+     * @throws GeneralSecurityException if a new engine can't be created.
+     */
+    T acquire() throws GeneralSecurityException {
+        int size = slots.length();
+        int start = startIndex(size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            T engine = slots.get(index);
+            if (engine != null && slots.compareAndSet(index, engine, null)) {
+                return engine;
+            }
+        }
+        return factory.create();
+    }
+
+    /**
+     * Returns an engine to the pool. The engine must be back in its initialized state, and must not be
+     * released after an operation on it failed half-way.
+     *
+     * @param engine the engine previously obtained from {@link #acquire()}.
+     */
+    void release(T engine) {
+        int size = slots.length();
+        int start = startIndex(size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, engine)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int startIndex(int size) {
+        // Spread threads over the slots so they don't all contend on the first one
+        return (int) ((Thread.currentThread().getId() & Integer.MAX_VALUE) % size);
+    }
+}
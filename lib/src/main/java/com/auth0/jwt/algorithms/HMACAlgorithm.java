@@ -2,6 +2,7 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.StacklessExceptions;
 import com.auth0.jwt.interfaces.DecodedJWT;
 
 import java.nio.charset.StandardCharsets;
@@ -54,10 +55,10 @@ class HMACAlgorithm extends Algorithm {
             boolean valid = crypto.verifySignatureFor(
                     getDescription(), secret, jwt.getHeader(), jwt.getPayload(), signatureBytes);
             if (!valid) {
-                throw new SignatureVerificationException(this);
+                throw new SignatureVerificationException(this, null, StacklessExceptions.writableStackTrace());
             }
         } catch (IllegalStateException | InvalidKeyException | NoSuchAlgorithmException | IllegalArgumentException e) {
-            throw new SignatureVerificationException(this, e);
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
         }
     }
 
@@ -78,4 +79,13 @@ class HMACAlgorithm extends Algorithm {
             throw new SignatureGenerationException(this, e);
         }
     }
+
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            return crypto.createSignatureFor(getDescription(), secret, contentBytes, offset, length);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
 }
@@ -0,0 +1,370 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.impl.JWTEvents;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Loads the RSA and EC Public Keys of a JSON Web Key Set (JWKS), as described in RFC 7517, from a local file or
+ * any other source of bytes, and keeps them up to date. The keys are parsed once per load into an
+ * {@link RSAKeySet} and an {@link ECDSAKeySet}, to use with the RSA and ECDSA algorithms, e.g.
+ * {@code Algorithm.RSA256(jwks.getRSAKeys())}.
+ * <p>
+ * When created with a refresh interval, a background thread reloads the keys: a file is only read again when its
+ * modification time or size changed, any other source is read on every interval. The keys can also be reloaded
+ * with {@link #refresh()}. A reload swaps the keys at once, so the threads verifying tokens never wait for it,
+ * and a reload that fails keeps the previous keys.
+ * <p>
+ * Keys without a "kid" and keys whose "use" is not "sig" are ignored. Keys that are malformed, or whose key type
+ * or curve is other than RSA, P-256, P-384 and P-521, are skipped without failing the load, so one bad key doesn't
+ * keep the others from being used, and are reported by {@link #getSkippedKeys()}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JWKSKeyProvider implements Closeable {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Supplier<InputStream> source;
+    private final Path path;
+    private final RSAKeySet rsaKeys;
+    private final ECDSAKeySet ecdsaKeys;
+    private final Object loadLock = new Object();
+    private final ScheduledExecutorService refresher;
+    private FileVersion loadedVersion;
+    private volatile IOException lastRefreshError;
+    private volatile Map<String, String> skippedKeys = Collections.emptyMap();
+
+    private JWKSKeyProvider(Supplier<InputStream> source, Path path, Duration refreshInterval) throws IOException {
+        if (refreshInterval != null && (refreshInterval.isNegative() || refreshInterval.isZero())) {
+            throw new IllegalArgumentException("The refresh interval must be greater than zero.");
+        }
+        this.source = source;
+        this.path = path;
+        this.rsaKeys = RSAKeySet.of(Collections.emptyMap());
+        this.ecdsaKeys = ECDSAKeySet.of(Collections.emptyMap());
+        refresh();
+        this.refresher = refreshInterval != null ? startRefresher(refreshInterval) : null;
+    }
+
+    /**
+     * Loads the keys of a JWKS file once. They're only reloaded by calling {@link #refresh()}.
+     *
+     * @param path the JWKS file.
+     * @return a new provider holding the keys of the file.
+     * @throws IllegalArgumentException if the path is null.
+     * @throws IOException              if the file can't be read or is not a valid JWKS.
+     */
+    public static JWKSKeyProvider fromFile(Path path) throws IllegalArgumentException, IOException {
+        return fromFile(path, null);
+    }
+
+    /**
+     * Loads the keys of a JWKS file, and checks every interval whether the file changed to reload them.
+     *
+     * @param path            the JWKS file.
+     * @param refreshInterval how often the file is checked for changes, or null to never check it.
+     * @return a new provider holding the keys of the file. It must be closed to stop checking the file.
+     * @throws IllegalArgumentException if the path is null or the interval is not positive.
+     * @throws IOException              if the file can't be read or is not a valid JWKS.
+     */
+    public static JWKSKeyProvider fromFile(Path path, Duration refreshInterval)
+            throws IllegalArgumentException, IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("The Path cannot be null.");
+        }
+        return new JWKSKeyProvider(null, path, refreshInterval);
+    }
+
+    /**
+     * Loads the keys of a JWKS read from the given source once. They're only reloaded by calling
+     * {@link #refresh()}.
+     *
+     * @param source supplies a new stream with the JWKS on every load. The stream is closed after reading it.
+     * @return a new provider holding the keys of the source.
+     * @throws IllegalArgumentException if the source is null.
+     * @throws IOException              if the source can't be read or is not a valid JWKS.
+     */
+    public static JWKSKeyProvider fromSource(Supplier<InputStream> source)
+            throws IllegalArgumentException, IOException {
+        return fromSource(source, null);
+    }
+
+    /**
+     * Loads the keys of a JWKS read from the given source, and reloads them every interval.
+     *
+     * @param source          supplies a new stream with the JWKS on every load. The stream is closed after
+     *                        reading it.
+     * @param refreshInterval how often the keys are reloaded, or null to never reload them.
+     * @return a new provider holding the keys of the source. It must be closed to stop reloading the keys.
+     * @throws IllegalArgumentException if the source is null or the interval is not positive.
+     * @throws IOException              if the source can't be read or is not a valid JWKS.
+     */
+    public static JWKSKeyProvider fromSource(Supplier<InputStream> source, Duration refreshInterval)
+            throws IllegalArgumentException, IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("The Source cannot be null.");
+        }
+        return new JWKSKeyProvider(source, null, refreshInterval);
+    }
+
+    /**
+     * Getter for the RSA keys of the JWKS, to use with
+     * {@link Algorithm#RSA256(com.auth0.jwt.interfaces.RSAKeyProvider)} and the other RSA algorithms.
+     * The same instance is kept up to date on every reload.
+     *
+     * @return the RSA keys by key id.
+     */
+    public RSAKeySet getRSAKeys() {
+        return rsaKeys;
+    }
+
+    /**
+     * Getter for the EC keys of the JWKS, to use with
+     * {@link Algorithm#ECDSA256(com.auth0.jwt.interfaces.ECDSAKeyProvider)} and the other ECDSA algorithms.
+     * The same instance is kept up to date on every reload.
+     *
+     * @return the EC keys by key id.
+     */
+    public ECDSAKeySet getECDSAKeys() {
+        return ecdsaKeys;
+    }
+
+    /**
+     * Reloads the keys now, on the calling thread.
+     *
+     * @throws IOException if the JWKS can't be read or is not valid, in which case the previous keys are kept.
+     */
+    public void refresh() throws IOException {
+        synchronized (loadLock) {
+            FileVersion version = path != null ? FileVersion.of(path) : null;
+            load();
+            loadedVersion = version;
+        }
+    }
+
+    /**
+     * Getter for the error of the last background reload.
+     *
+     * @return the error that made the last background reload fail, or null if it succeeded.
+     */
+    public IOException getLastRefreshError() {
+        return lastRefreshError;
+    }
+
+    /**
+     * Getter for the keys skipped by the last load, because they are malformed or their key type or curve is not
+     * supported. The keys without a "kid" or whose "use" is not "sig" are not part of them.
+     *
+     * @return the reason why each key was skipped, by key id.
+     */
+    public Map<String, String> getSkippedKeys() {
+        return skippedKeys;
+    }
+
+    /**
+     * Stops reloading the keys in the background. The keys loaded so far can still be used.
+     */
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private ScheduledExecutorService startRefresher(Duration refreshInterval) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, refreshInterval.toMillis());
+        executor.scheduleWithFixedDelay(this::refreshInBackground, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void refreshInBackground() {
+        try {
+            synchronized (loadLock) {
+                if (path != null && FileVersion.of(path).equals(loadedVersion)) {
+                    lastRefreshError = null;
+                    return;
+                }
+            }
+            refresh();
+            lastRefreshError = null;
+        } catch (IOException e) {
+            lastRefreshError = e;
+        } catch (RuntimeException e) {
+            // A failing Supplier must not stop the next reloads
+            lastRefreshError = new IOException(e);
+        }
+    }
+
+    private void load() throws IOException {
+        Object event = JWTEvents.beginKeysReload();
+        if (event == null) {
+            loadKeys();
+            return;
+        }
+        String description = path != null ? path.toString() : source.getClass().getName();
+        int keyCount;
+        try {
+            keyCount = loadKeys();
+        } catch (IOException | RuntimeException e) {
+            JWTEvents.endKeysReload(event, description, 0, e);
+            throw e;
+        }
+        JWTEvents.endKeysReload(event, description, keyCount, null);
+    }
+
+    /**
+     * Reads and parses the JWKS, then swaps the keys.
+     *
+     * @return the number of keys loaded.
+     */
+    private int loadKeys() throws IOException {
+        JsonNode jwks;
+        try (InputStream stream = path != null ? Files.newInputStream(path) : source.get()) {
+            if (stream == null) {
+                throw new IOException("The Source returned a null stream.");
+            }
+            jwks = mapper.readTree(stream);
+        }
+        JsonNode keys = jwks != null ? jwks.get("keys") : null;
+        if (keys == null || !keys.isArray()) {
+            throw new IOException("The JWKS doesn't contain a 'keys' array.");
+        }
+        Map<String, RSAPublicKey> rsa = new HashMap<>();
+        Map<String, ECPublicKey> ec = new HashMap<>();
+        Map<String, String> skipped = new HashMap<>();
+        for (JsonNode jwk : keys) {
+            String keyId = text(jwk, "kid");
+            String use = text(jwk, "use");
+            if (keyId == null || (use != null && !"sig".equals(use))) {
+                continue;
+            }
+            String keyType = text(jwk, "kty");
+            try {
+                if ("RSA".equals(keyType)) {
+                    rsa.put(keyId, parseRSAKey(jwk));
+                } else if (!"EC".equals(keyType)) {
+                    skipped.put(keyId, "The key type '" + keyType + "' is not supported.");
+                } else if (curveName(text(jwk, "crv")) == null) {
+                    skipped.put(keyId, "The curve '" + text(jwk, "crv") + "' is not supported.");
+                } else {
+                    ec.put(keyId, parseECKey(jwk));
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                skipped.put(keyId, "Not a valid Public Key: " + e.getMessage());
+            }
+        }
+        rsaKeys.replaceAll(rsa);
+        ecdsaKeys.replaceAll(ec);
+        skippedKeys = Collections.unmodifiableMap(skipped);
+        return rsa.size() + ec.size();
+    }
+
+    private static RSAPublicKey parseRSAKey(JsonNode jwk) throws GeneralSecurityException {
+        BigInteger modulus = unsignedInteger(jwk, "n");
+        BigInteger exponent = unsignedInteger(jwk, "e");
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+
+    private static ECPublicKey parseECKey(JsonNode jwk) throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curveName(text(jwk, "crv"))));
+        ECParameterSpec curve = parameters.getParameterSpec(ECParameterSpec.class);
+        ECPoint point = new ECPoint(unsignedInteger(jwk, "x"), unsignedInteger(jwk, "y"));
+        return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, curve));
+    }
+
+    private static String curveName(String crv) {
+        if ("P-256".equals(crv)) {
+            return "secp256r1";
+        }
+        if ("P-384".equals(crv)) {
+            return "secp384r1";
+        }
+        if ("P-521".equals(crv)) {
+            return "secp521r1";
+        }
+        return null;
+    }
+
+    private static BigInteger unsignedInteger(JsonNode jwk, String name) {
+        String value = text(jwk, name);
+        if (value == null) {
+            throw new IllegalArgumentException("The '" + name + "' parameter is missing.");
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    private static String text(JsonNode jwk, String name) {
+        JsonNode node = jwk.get(name);
+        return node != null && node.isTextual() ? node.asText() : null;
+    }
+
+    /**
+     * What identifies a version of a file, to reload it only when it changed.
+     */
+    private static final class FileVersion {
+        private final long lastModified;
+        private final long size;
+
+        private FileVersion(long lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileVersion of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime().toMillis(), attributes.size());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FileVersion)) {
+                return false;
+            }
+            FileVersion that = (FileVersion) o;
+            return lastModified == that.lastModified && size == that.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(lastModified) + Long.hashCode(size);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.auth0.jwt.algorithms;
+
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable map of Public Keys by key id, replaced as a whole when keys are added or removed. Lookups read the
+ * current map without locking, so key rotation never blocks the threads verifying tokens. Each entry keeps the
+ * Signature engines initialized with its key, so they are found along with the key instead of through a lookup
+ * by key.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <U> the class that represents the Public Key
+ */
+final class KeyIndex<U extends PublicKey> {
+
+    private final AtomicReference<Map<String, Entry<U>>> entries;
+
+    KeyIndex(Map<String, ? extends U> publicKeys) throws IllegalArgumentException {
+        this.entries = new AtomicReference<>(Collections.emptyMap());
+        replaceAll(publicKeys);
+    }
+
+    /**
+     * Looks up the entry of a key id.
+     *
+     * @param keyId the key id, usually the "kid" of the token's Header.
+     * @return the entry, or null if the key id is null or not in the index.
+     */
+    Entry<U> get(String keyId) {
+        return keyId != null ? entries.get().get(keyId) : null;
+    }
+
+    U getPublicKey(String keyId) {
+        Entry<U> entry = get(keyId);
+        return entry != null ? entry.publicKey : null;
+    }
+
+    Set<String> getKeyIds() {
+        return entries.get().keySet();
+    }
+
+    void replaceAll(Map<String, ? extends U> publicKeys) throws IllegalArgumentException {
+        if (publicKeys == null) {
+            throw new IllegalArgumentException("The Public Keys cannot be null.");
+        }
+        for (Map.Entry<String, ? extends U> key : publicKeys.entrySet()) {
+            assertValid(key.getKey(), key.getValue());
+        }
+        update(current -> {
+            Map<String, Entry<U>> next = new HashMap<>(publicKeys.size() * 2);
+            for (Map.Entry<String, ? extends U> key : publicKeys.entrySet()) {
+                next.put(key.getKey(), entryFor(current, key.getKey(), key.getValue()));
+            }
+            return next;
+        });
+    }
+
+    void put(String keyId, U publicKey) throws IllegalArgumentException {
+        assertValid(keyId, publicKey);
+        update(current -> {
+            Map<String, Entry<U>> next = new HashMap<>(current);
+            next.put(keyId, entryFor(current, keyId, publicKey));
+            return next;
+        });
+    }
+
+    void remove(String keyId) {
+        update(current -> {
+            if (!current.containsKey(keyId)) {
+                return current;
+            }
+            Map<String, Entry<U>> next = new HashMap<>(current);
+            next.remove(keyId);
+            return next;
+        });
+    }
+
+    private void update(UnaryOperator<Map<String, Entry<U>>> change) {
+        Map<String, Entry<U>> current;
+        Map<String, Entry<U>> next;
+        do {
+            current = entries.get();
+            next = change.apply(current);
+            if (next == current) {
+                return;
+            }
+        } while (!entries.compareAndSet(current, Collections.unmodifiableMap(next)));
+    }
+
+    /**
+     * Keeps the existing entry, and so its initialized engines, when the same key is set again, for instance
+     * after reloading unchanged keys.
+     */
+    private Entry<U> entryFor(Map<String, Entry<U>> current, String keyId, U publicKey) {
+        Entry<U> existing = current.get(keyId);
+        if (existing != null && (existing.publicKey == publicKey || existing.publicKey.equals(publicKey))) {
+            return existing;
+        }
+        return new Entry<>(publicKey);
+    }
+
+    private static void assertValid(String keyId, PublicKey publicKey) throws IllegalArgumentException {
+        if (keyId == null || publicKey == null) {
+            throw new IllegalArgumentException("The Key Ids and Public Keys cannot be null.");
+        }
+    }
+
+    /**
+     * A Public Key, along with the Signature engines last used to verify with it.
+     *
+     * @param <U> the class that represents the Public Key
+     */
+    static final class Entry<U extends PublicKey> {
+        final U publicKey;
+        volatile CryptoHelper.SignatureEngines verifyEngines;
+
+        Entry(U publicKey) {
+            this.publicKey = publicKey;
+        }
+    }
+}
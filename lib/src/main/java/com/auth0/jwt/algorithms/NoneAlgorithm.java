@@ -2,6 +2,7 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.StacklessExceptions;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import java.util.Base64;
 
@@ -17,10 +18,10 @@ class NoneAlgorithm extends Algorithm {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
 
             if (signatureBytes.length > 0) {
-                throw new SignatureVerificationException(this);
+                throw new SignatureVerificationException(this, null, StacklessExceptions.writableStackTrace());
             }
         } catch (IllegalArgumentException e) {
-            throw new SignatureVerificationException(this, e);
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
         }
     }
 
@@ -33,4 +34,9 @@ class NoneAlgorithm extends Algorithm {
     public byte[] sign(byte[] contentBytes) throws SignatureGenerationException {
         return new byte[0];
     }
+
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        return new byte[0];
+    }
 }
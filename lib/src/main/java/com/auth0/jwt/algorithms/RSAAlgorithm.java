@@ -2,15 +2,21 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
+import com.auth0.jwt.impl.StacklessExceptions;
+import com.auth0.jwt.interfaces.AsyncRSAKeyProvider;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.security.SignatureException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Subclass representing an RSA signing algorithm
@@ -37,22 +43,110 @@ class RSAAlgorithm extends Algorithm {
         this(new CryptoHelper(), id, algorithm, keyProvider);
     }
 
+    RSAAlgorithm(String id, String algorithm, RSAKeyProvider keyProvider, Provider provider)
+            throws IllegalArgumentException {
+        this(CryptoHelper.forProvider(provider), id, algorithm, keyProvider);
+    }
+
     @Override
     public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        if (keyProvider instanceof RSAKeySet) {
+            KeyIndex.Entry<RSAPublicKey> entry = getKeySetEntry(jwt.getKeyId());
+            verify(jwt, entry != null ? entry.publicKey : null, entry);
+            return;
+        }
+        verify(jwt, getPublicKeyById(jwt.getKeyId()));
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt, JWTMetrics metrics) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        KeyIndex.Entry<RSAPublicKey> entry = null;
+        RSAPublicKey publicKey;
+        try {
+            if (keyProvider instanceof RSAKeySet) {
+                entry = getKeySetEntry(jwt.getKeyId());
+                publicKey = entry != null ? entry.publicKey : null;
+            } else {
+                publicKey = getPublicKeyById(jwt.getKeyId());
+            }
+        } finally {
+            metrics.recordStage(JWTMetrics.Stage.KEY_LOOKUP, getName(), System.nanoTime() - start);
+        }
+        long signatureStart = System.nanoTime();
+        try {
+            verify(jwt, publicKey, entry);
+        } finally {
+            metrics.recordStage(JWTMetrics.Stage.SIGNATURE, getName(), System.nanoTime() - signatureStart);
+        }
+    }
+
+    /**
+     * Gets the Public Key from the key provider, recording the lookup as a Java Flight Recorder event. The
+     * exceptions thrown by the provider are wrapped as when verifying the signature.
+     */
+    private RSAPublicKey getPublicKeyById(String keyId) throws SignatureVerificationException {
+        Object event = JWTEvents.beginKeyLookup();
+        RSAPublicKey publicKey = null;
+        try {
+            publicKey = keyProvider.getPublicKeyById(keyId);
+            return publicKey;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
+        } finally {
+            JWTEvents.endKeyLookup(event, getName(), keyId, keyProvider, publicKey != null);
+        }
+    }
+
+    /**
+     * Gets the entry of the key set for the given Key Id, recording the lookup as a Java Flight Recorder event.
+     */
+    private KeyIndex.Entry<RSAPublicKey> getKeySetEntry(String keyId) {
+        Object event = JWTEvents.beginKeyLookup();
+        KeyIndex.Entry<RSAPublicKey> entry = ((RSAKeySet) keyProvider).index.get(keyId);
+        JWTEvents.endKeyLookup(event, getName(), keyId, keyProvider, entry != null);
+        return entry;
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt) {
+        if (!(keyProvider instanceof AsyncRSAKeyProvider)) {
+            return super.verifyAsync(jwt);
+        }
+        Object event = JWTEvents.beginKeyLookup();
+        return ((AsyncRSAKeyProvider) keyProvider).getPublicKeyByIdAsync(jwt.getKeyId())
+                .handle((publicKey, error) -> {
+                    JWTEvents.endKeyLookup(event, getName(), jwt.getKeyId(), keyProvider, publicKey != null);
+                    if (error != null) {
+                        throw new SignatureVerificationException(this, unwrap(error));
+                    }
+                    verify(jwt, publicKey);
+                    return null;
+                });
+    }
+
+    private void verify(DecodedJWT jwt, RSAPublicKey publicKey) throws SignatureVerificationException {
+        verify(jwt, publicKey, null);
+    }
+
+    private void verify(DecodedJWT jwt, RSAPublicKey publicKey, KeyIndex.Entry<RSAPublicKey> entry)
+            throws SignatureVerificationException {
         try {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
-            RSAPublicKey publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
             if (publicKey == null) {
                 throw new IllegalStateException("The given Public Key is null.");
             }
-            boolean valid = crypto.verifySignatureFor(
-                    getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), signatureBytes);
+            boolean valid = entry != null
+                    ? crypto.verifySignatureFor(
+                            getDescription(), entry, jwt.getHeader(), jwt.getPayload(), signatureBytes)
+                    : crypto.verifySignatureFor(
+                            getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), signatureBytes);
             if (!valid) {
-                throw new SignatureVerificationException(this);
+                throw new SignatureVerificationException(this, null, StacklessExceptions.writableStackTrace());
             }
         } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException
                 | IllegalArgumentException | IllegalStateException e) {
-            throw new SignatureVerificationException(this, e);
+            throw new SignatureVerificationException(this, e, StacklessExceptions.writableStackTrace());
         }
     }
 
@@ -82,6 +176,19 @@ class RSAAlgorithm extends Algorithm {
         }
     }
 
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            RSAPrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            return crypto.createSignatureFor(getDescription(), privateKey, contentBytes, offset, length);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
     @Override
     public String getSigningKeyId() {
         return keyProvider.getPrivateKeyId();
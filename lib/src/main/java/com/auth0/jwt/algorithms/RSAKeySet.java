@@ -0,0 +1,113 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link RSAKeyProvider} holding a set of RSA Public Keys indexed by key id, for verifying tokens signed by any of
+ * several keys. The key matching the "kid" of the token's Header is found with a single hash lookup, without
+ * locking, and the keys can be rotated at any time without blocking the verification. When used with
+ * {@link Algorithm#RSA256(RSAKeyProvider)} and the other RSA algorithms, the Signature engines initialized with
+ * each key are kept along with the key.
+ * <p>
+ * Tokens without a "kid", or with one that's not in the set, fail the signature verification.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RSAKeySet implements RSAKeyProvider {
+
+    final KeyIndex<RSAPublicKey> index;
+    private final RSAPrivateKey privateKey;
+    private final String privateKeyId;
+
+    private RSAKeySet(Map<String, ? extends RSAPublicKey> publicKeys, RSAPrivateKey privateKey, String privateKeyId)
+            throws IllegalArgumentException {
+        this.index = new KeyIndex<>(publicKeys);
+        this.privateKey = privateKey;
+        this.privateKeyId = privateKeyId;
+    }
+
+    /**
+     * Creates a key set to verify tokens.
+     *
+     * @param publicKeys the Public Keys by key id.
+     * @return a new key set.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public static RSAKeySet of(Map<String, ? extends RSAPublicKey> publicKeys) throws IllegalArgumentException {
+        return new RSAKeySet(publicKeys, null, null);
+    }
+
+    /**
+     * Creates a key set to verify tokens, and to sign them with the given Private Key.
+     *
+     * @param publicKeys   the Public Keys by key id.
+     * @param privateKeyId the key id to put in the Header of the signed tokens, or null.
+     * @param privateKey   the Private Key to sign the tokens with.
+     * @return a new key set.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public static RSAKeySet of(Map<String, ? extends RSAPublicKey> publicKeys, String privateKeyId,
+                               RSAPrivateKey privateKey) throws IllegalArgumentException {
+        return new RSAKeySet(publicKeys, privateKey, privateKeyId);
+    }
+
+    /**
+     * Replaces all the Public Keys of the set at once. Threads verifying a token see either the previous or the
+     * new keys, never a mix of both.
+     *
+     * @param publicKeys the new Public Keys by key id.
+     * @throws IllegalArgumentException if the map, or any of its key ids or keys, is null.
+     */
+    public void replaceAll(Map<String, ? extends RSAPublicKey> publicKeys) throws IllegalArgumentException {
+        index.replaceAll(publicKeys);
+    }
+
+    /**
+     * Adds a Public Key to the set, replacing the key with the same id if there's one.
+     *
+     * @param keyId     the key id.
+     * @param publicKey the Public Key.
+     * @throws IllegalArgumentException if the key id or the key is null.
+     */
+    public void put(String keyId, RSAPublicKey publicKey) throws IllegalArgumentException {
+        index.put(keyId, publicKey);
+    }
+
+    /**
+     * Removes a Public Key from the set.
+     *
+     * @param keyId the key id.
+     */
+    public void remove(String keyId) {
+        index.remove(keyId);
+    }
+
+    /**
+     * Getter for the ids of the Public Keys currently in the set.
+     *
+     * @return an unmodifiable snapshot of the key ids.
+     */
+    public Set<String> getKeyIds() {
+        return index.getKeyIds();
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        return index.getPublicKey(keyId);
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return privateKeyId;
+    }
+}
@@ -7,4 +7,8 @@ public class AlgorithmMismatchException extends JWTVerificationException {
     public AlgorithmMismatchException(String message) {
         super(message);
     }
+
+    public AlgorithmMismatchException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace);
+    }
 }
@@ -19,7 +19,20 @@ public class IncorrectClaimException extends InvalidClaimException {
      * @param claim The Claim value for which verification failed
      */
     public IncorrectClaimException(String message, String claimName, Claim claim) {
-        super(message);
+        this(message, claimName, claim, true);
+    }
+
+    /**
+     * Used internally to construct the IncorrectClaimException, without capturing the stack trace when
+     * verifying with {@link com.auth0.jwt.interfaces.Verification#withStacklessExceptions()}.
+     *
+     * @param message The error message
+     * @param claimName The Claim name for which verification failed
+     * @param claim The Claim value for which verification failed
+     * @param writableStackTrace Whether the stack trace is captured
+     */
+    public IncorrectClaimException(String message, String claimName, Claim claim, boolean writableStackTrace) {
+        super(message, writableStackTrace);
         this.claimName = claimName;
         this.claimValue = claim;
     }
@@ -7,4 +7,8 @@ public class InvalidClaimException extends JWTVerificationException {
     public InvalidClaimException(String message) {
         super(message);
     }
+
+    protected InvalidClaimException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -11,4 +11,8 @@ public class JWTDecodeException extends JWTVerificationException {
     public JWTDecodeException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    public JWTDecodeException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
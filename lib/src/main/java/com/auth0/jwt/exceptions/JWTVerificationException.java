@@ -11,4 +11,16 @@ public class JWTVerificationException extends RuntimeException {
     public JWTVerificationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Used internally to reject a token without capturing the stack trace, as configured with
+     * {@link com.auth0.jwt.interfaces.Verification#withStacklessExceptions()}.
+     *
+     * @param message            the error message.
+     * @param cause              the cause, or null.
+     * @param writableStackTrace whether the stack trace is captured.
+     */
+    protected JWTVerificationException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
 }
@@ -8,7 +8,11 @@ public class MissingClaimException extends InvalidClaimException {
     private final String claimName;
 
     public MissingClaimException(String claimName) {
-        super(String.format("The Claim '%s' is not present in the JWT.", claimName));
+        this(claimName, true);
+    }
+
+    public MissingClaimException(String claimName, boolean writableStackTrace) {
+        super(String.format("The Claim '%s' is not present in the JWT.", claimName), writableStackTrace);
         this.claimName = claimName;
     }
 
@@ -11,6 +11,11 @@ public class SignatureVerificationException extends JWTVerificationException {
     }
 
     public SignatureVerificationException(Algorithm algorithm, Throwable cause) {
-        super("The Token's Signature resulted invalid when verified using the Algorithm: " + algorithm, cause);
+        this(algorithm, cause, true);
+    }
+
+    public SignatureVerificationException(Algorithm algorithm, Throwable cause, boolean writableStackTrace) {
+        super("The Token's Signature resulted invalid when verified using the Algorithm: " + algorithm, cause,
+                writableStackTrace);
     }
 }
@@ -12,7 +12,11 @@ public class TokenExpiredException extends JWTVerificationException {
     private final Instant expiredOn;
 
     public TokenExpiredException(String message, Instant expiredOn) {
-        super(message);
+        this(message, expiredOn, true);
+    }
+
+    public TokenExpiredException(String message, Instant expiredOn, boolean writableStackTrace) {
+        super(message, null, writableStackTrace);
         this.expiredOn = expiredOn;
     }
 
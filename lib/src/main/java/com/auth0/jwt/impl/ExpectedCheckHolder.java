@@ -22,4 +22,15 @@ public interface ExpectedCheckHolder {
      * @return whether the verification passed or not
      */
     boolean verify(Claim claim, DecodedJWT decodedJWT);
+
+    /**
+     * The verification that will be run, reading the claim from the given JWT. Checks on registered claims
+     * may override it to read the claim's value from the JWT's getters, without wrapping it in a {@link Claim}.
+     *
+     * @param decodedJWT the JWT on which verification is done
+     * @return whether the verification passed or not
+     */
+    default boolean verify(DecodedJWT decodedJWT) {
+        return verify(decodedJWT.getClaim(getClaimName()), decodedJWT);
+    }
 }
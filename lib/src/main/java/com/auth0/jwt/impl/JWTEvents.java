@@ -0,0 +1,188 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.lang.reflect.Method;
+
+/**
+ * Emits the Java Flight Recorder events of this library: one per verified token, signed token, public key looked
+ * up in a key provider and JWKS reload. The events are only emitted when the JVM has the {@code jdk.jfr} module
+ * (Java 11 and later, or Java 8 update 262 and later) and a recording enables them. Otherwise every method does
+ * nothing, and the {@code begin} methods return null.
+ * <p>
+ * The event classes extend {@code jdk.jfr.Event}, which is not part of the Java 8 API this library is compiled
+ * against, so they are compiled separately and loaded by reflection when this class is initialized.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JWTEvents {
+
+    private static final String FLIGHT_RECORDER_EVENTS = "com.auth0.jwt.impl.FlightRecorderEvents";
+
+    private static final Recorder RECORDER = loadRecorder();
+
+    private JWTEvents() {
+    }
+
+    /**
+     * Starts timing the verification of a token.
+     *
+     * @return the started event, to be given back to
+     *         {@link #endVerification(Object, String, DecodedJWT, String, String)}, or null if no recording
+     *         enables it.
+     */
+    public static Object beginVerification() {
+        return RECORDER.beginVerification();
+    }
+
+    /**
+     * Ends the verification of a token and commits its event, if the recording keeps it.
+     *
+     * @param event   the event returned by {@link #beginVerification()}, or null.
+     * @param token   the verified token, or null if it was given already decoded.
+     * @param jwt     the decoded token, or null if it couldn't be decoded.
+     * @param failure why the token was rejected, or null if it's valid.
+     * @param message the message of the exception rejecting the token, or null.
+     */
+    public static void endVerification(Object event, String token, DecodedJWT jwt, String failure, String message) {
+        if (event != null) {
+            RECORDER.endVerification(event, token, jwt, failure, message);
+        }
+    }
+
+    /**
+     * Starts timing the creation of a token.
+     *
+     * @return the started event, to be given back to
+     *         {@link #endSigning(Object, String, String, int, Throwable)}, or null if no recording enables it.
+     */
+    public static Object beginSigning() {
+        return RECORDER.beginSigning();
+    }
+
+    /**
+     * Ends the creation of a token and commits its event, if the recording keeps it.
+     *
+     * @param event       the event returned by {@link #beginSigning()}, or null.
+     * @param algorithm   the name of the Algorithm signing the token.
+     * @param keyId       the "kid" of the token, or null.
+     * @param payloadSize the length of the encoded Payload, or 0 if it couldn't be encoded.
+     * @param failure     the exception that made the creation fail, or null if the token was signed.
+     */
+    public static void endSigning(Object event, String algorithm, String keyId, int payloadSize, Throwable failure) {
+        if (event != null) {
+            RECORDER.endSigning(event, algorithm, keyId, payloadSize, failure);
+        }
+    }
+
+    /**
+     * Starts timing the lookup of a Public Key in a key provider.
+     *
+     * @return the started event, to be given back to
+     *         {@link #endKeyLookup(Object, String, String, Object, boolean)}, or null if no recording enables it.
+     */
+    public static Object beginKeyLookup() {
+        return RECORDER.beginKeyLookup();
+    }
+
+    /**
+     * Ends the lookup of a Public Key and commits its event, if the recording keeps it.
+     *
+     * @param event     the event returned by {@link #beginKeyLookup()}, or null.
+     * @param algorithm the name of the Algorithm looking up the key.
+     * @param keyId     the "kid" of the token, or null.
+     * @param provider  the key provider.
+     * @param found     whether the provider returned a key.
+     */
+    public static void endKeyLookup(Object event, String algorithm, String keyId, Object provider, boolean found) {
+        if (event != null) {
+            RECORDER.endKeyLookup(event, algorithm, keyId, provider, found);
+        }
+    }
+
+    /**
+     * Starts timing the reload of a JSON Web Key Set.
+     *
+     * @return the started event, to be given back to {@link #endKeysReload(Object, String, int, Throwable)}, or
+     *         null if no recording enables it.
+     */
+    public static Object beginKeysReload() {
+        return RECORDER.beginKeysReload();
+    }
+
+    /**
+     * Ends the reload of a JSON Web Key Set and commits its event, if the recording keeps it.
+     *
+     * @param event    the event returned by {@link #beginKeysReload()}, or null.
+     * @param source   where the keys were read from.
+     * @param keyCount the number of keys loaded, or 0 if the reload failed.
+     * @param failure  the exception that made the reload fail, or null if it succeeded.
+     */
+    public static void endKeysReload(Object event, String source, int keyCount, Throwable failure) {
+        if (event != null) {
+            RECORDER.endKeysReload(event, source, keyCount, failure);
+        }
+    }
+
+    private static Recorder loadRecorder() {
+        try {
+            Class<?> event = Class.forName("jdk.jfr.Event", false, JWTEvents.class.getClassLoader());
+            readModuleOf(event);
+            return (Recorder) Class.forName(FLIGHT_RECORDER_EVENTS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // No JFR in this JVM, or it can't be read from this module
+            return new Recorder();
+        }
+    }
+
+    /**
+     * Makes the module of this library read the module of the given class, as the module descriptor can't require
+     * {@code jdk.jfr}: it's compiled for Java 9, which doesn't have it. The {@code jdk.jfr} module is only present
+     * when it's resolved, e.g. when the JVM starts with a recording. On Java 8 there are no modules to read.
+     */
+    private static void readModuleOf(Class<?> type) throws ReflectiveOperationException {
+        Method getModule;
+        try {
+            getModule = Class.class.getMethod("getModule");
+        } catch (NoSuchMethodException e) {
+            return;
+        }
+        Object module = getModule.invoke(type);
+        Object thisModule = getModule.invoke(JWTEvents.class);
+        thisModule.getClass().getMethod("addReads", getModule.getReturnType()).invoke(thisModule, module);
+    }
+
+    /**
+     * Records nothing. Replaced by the Java Flight Recorder implementation when the JVM has it.
+     */
+    static class Recorder {
+
+        Object beginVerification() {
+            return null;
+        }
+
+        void endVerification(Object event, String token, DecodedJWT jwt, String failure, String message) {
+        }
+
+        Object beginSigning() {
+            return null;
+        }
+
+        void endSigning(Object event, String algorithm, String keyId, int payloadSize, Throwable failure) {
+        }
+
+        Object beginKeyLookup() {
+            return null;
+        }
+
+        void endKeyLookup(Object event, String algorithm, String keyId, Object provider, boolean found) {
+        }
+
+        Object beginKeysReload() {
+            return null;
+        }
+
+        void endKeysReload(Object event, String source, int keyCount, Throwable failure) {
+        }
+    }
+}
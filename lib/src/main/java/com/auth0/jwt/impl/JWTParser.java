@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class helps in decoding the Header and Payload of the JWT using
@@ -61,6 +62,72 @@ public class JWTParser implements JWTPartsParser {
         }
     }
 
+    /**
+     * Parses the given UTF-8 encoded JSON into a {@link Payload} instance, without creating an intermediate String.
+     *
+     * @param json the bytes of the content of the Payload in a JSON representation.
+     * @return the Payload.
+     * @throws JWTDecodeException if the json doesn't have a proper JSON format.
+     */
+    public Payload parsePayloadBytes(byte[] json) throws JWTDecodeException {
+        return json == null ? parsePayload(null, 0, 0) : parsePayload(json, 0, json.length);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON into a {@link Header} instance, without creating an intermediate String.
+     *
+     * @param json the bytes of the content of the Header in a JSON representation.
+     * @return the Header.
+     * @throws JWTDecodeException if the json doesn't have a proper JSON format.
+     */
+    public Header parseHeaderBytes(byte[] json) throws JWTDecodeException {
+        return json == null ? parseHeader(null, 0, 0) : parseHeader(json, 0, json.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON found in the given byte range into a {@link Payload} instance,
+     * without creating an intermediate String.
+     *
+     * @param json   the bytes holding the content of the Payload in a JSON representation.
+     * @param offset the index of the first byte of the JSON content.
+     * @param length the number of bytes of the JSON content.
+     * @return the Payload.
+     * @throws JWTDecodeException if the json doesn't have a proper JSON format.
+     */
+    public Payload parsePayload(byte[] json, int offset, int length) throws JWTDecodeException {
+        if (json == null) {
+            throw decodeException();
+        }
+
+        try {
+            return payloadReader.readValue(json, offset, length);
+        } catch (IOException e) {
+            throw decodeException(json, offset, length);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON found in the given byte range into a {@link Header} instance,
+     * without creating an intermediate String.
+     *
+     * @param json   the bytes holding the content of the Header in a JSON representation.
+     * @param offset the index of the first byte of the JSON content.
+     * @param length the number of bytes of the JSON content.
+     * @return the Header.
+     * @throws JWTDecodeException if the json doesn't have a proper JSON format.
+     */
+    public Header parseHeader(byte[] json, int offset, int length) throws JWTDecodeException {
+        if (json == null) {
+            throw decodeException();
+        }
+
+        try {
+            return headerReader.readValue(json, offset, length);
+        } catch (IOException e) {
+            throw decodeException(json, offset, length);
+        }
+    }
+
     static void addDeserializers(ObjectMapper mapper) {
         SimpleModule module = new SimpleModule();
         module.addDeserializer(Payload.class, new PayloadDeserializer());
@@ -86,7 +153,12 @@ public class JWTParser implements JWTPartsParser {
         return decodeException(null);
     }
 
+    private static JWTDecodeException decodeException(byte[] json, int offset, int length) {
+        return decodeException(new String(json, offset, length, StandardCharsets.UTF_8));
+    }
+
     private static JWTDecodeException decodeException(String json) {
-        return new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", json));
+        return new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", json), null,
+                StacklessExceptions.writableStackTrace());
     }
 }
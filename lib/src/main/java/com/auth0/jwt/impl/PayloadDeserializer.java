@@ -40,9 +40,9 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
         String issuer = getString(tree, RegisteredClaims.ISSUER);
         String subject = getString(tree, RegisteredClaims.SUBJECT);
         List<String> audience = getStringOrArray(p.getCodec(), tree, RegisteredClaims.AUDIENCE);
-        Instant expiresAt = getInstantFromSeconds(tree, RegisteredClaims.EXPIRES_AT);
-        Instant notBefore = getInstantFromSeconds(tree, RegisteredClaims.NOT_BEFORE);
-        Instant issuedAt = getInstantFromSeconds(tree, RegisteredClaims.ISSUED_AT);
+        long expiresAt = getEpochSecond(tree, RegisteredClaims.EXPIRES_AT);
+        long notBefore = getEpochSecond(tree, RegisteredClaims.NOT_BEFORE);
+        long issuedAt = getEpochSecond(tree, RegisteredClaims.ISSUED_AT);
         String jwtId = getString(tree, RegisteredClaims.JWT_ID);
 
         return new PayloadImpl(issuer, subject, audience, expiresAt, notBefore, issuedAt, jwtId, tree, p.getCodec());
@@ -70,15 +70,25 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
     }
 
     Instant getInstantFromSeconds(Map<String, JsonNode> tree, String claimName) {
+        long epochSecond = getEpochSecond(tree, claimName);
+        return epochSecond != Payload.NO_EPOCH_SECOND ? Instant.ofEpochSecond(epochSecond) : null;
+    }
+
+    long getEpochSecond(Map<String, JsonNode> tree, String claimName) {
         JsonNode node = tree.get(claimName);
         if (node == null || node.isNull()) {
-            return null;
+            return Payload.NO_EPOCH_SECOND;
         }
         if (!node.canConvertToLong()) {
             throw new JWTDecodeException(
                     String.format("The claim '%s' contained a non-numeric date value.", claimName));
         }
-        return Instant.ofEpochSecond(node.asLong());
+        long epochSecond = node.asLong();
+        if (epochSecond < Instant.MIN.getEpochSecond() || epochSecond > Instant.MAX.getEpochSecond()) {
+            throw new JWTDecodeException(
+                    String.format("The claim '%s' contained an out of range date value.", claimName));
+        }
+        return epochSecond;
     }
 
     String getString(Map<String, JsonNode> tree, String claimName) {
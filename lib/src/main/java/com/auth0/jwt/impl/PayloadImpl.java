@@ -5,6 +5,10 @@ import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Collections;
@@ -26,15 +30,35 @@ class PayloadImpl implements Payload, Serializable {
 
     private static final long serialVersionUID = 1659021498824562311L;
 
+    // The time claims were serialized as Instants before they were kept as epoch seconds: keep that form, so
+    // payloads serialized by either version can be read by the other
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("issuer", String.class),
+            new ObjectStreamField("subject", String.class),
+            new ObjectStreamField("audience", List.class),
+            new ObjectStreamField("expiresAt", Instant.class),
+            new ObjectStreamField("notBefore", Instant.class),
+            new ObjectStreamField("issuedAt", Instant.class),
+            new ObjectStreamField("jwtId", String.class),
+            new ObjectStreamField("tree", Map.class),
+            new ObjectStreamField("objectCodec", ObjectCodec.class)
+    };
+
     private final String issuer;
     private final String subject;
     private final List<String> audience;
-    private final Instant expiresAt;
-    private final Instant notBefore;
-    private final Instant issuedAt;
+    private final long expiresAt;
+    private final long notBefore;
+    private final long issuedAt;
+    // Only kept when the payload is created from Instants, which may be more precise than seconds
+    private final Instant expiresAtInstant;
+    private final Instant notBeforeInstant;
+    private final Instant issuedAtInstant;
     private final String jwtId;
     private final Map<String, JsonNode> tree;
     private final ObjectCodec objectCodec;
+    // Only set on a deserialized instance, to be returned by readResolve()
+    private transient PayloadImpl deserialized;
 
     PayloadImpl(
             String issuer,
@@ -46,6 +70,38 @@ class PayloadImpl implements Payload, Serializable {
             String jwtId,
             Map<String, JsonNode> tree,
             ObjectCodec objectCodec
+    ) {
+        this(issuer, subject, audience, expiresAt, notBefore, issuedAt,
+                epochSecondOf(expiresAt), epochSecondOf(notBefore), epochSecondOf(issuedAt), jwtId, tree, objectCodec);
+    }
+
+    PayloadImpl(
+            String issuer,
+            String subject,
+            List<String> audience,
+            long expiresAt,
+            long notBefore,
+            long issuedAt,
+            String jwtId,
+            Map<String, JsonNode> tree,
+            ObjectCodec objectCodec
+    ) {
+        this(issuer, subject, audience, null, null, null, expiresAt, notBefore, issuedAt, jwtId, tree, objectCodec);
+    }
+
+    private PayloadImpl(
+            String issuer,
+            String subject,
+            List<String> audience,
+            Instant expiresAtInstant,
+            Instant notBeforeInstant,
+            Instant issuedAtInstant,
+            long expiresAt,
+            long notBefore,
+            long issuedAt,
+            String jwtId,
+            Map<String, JsonNode> tree,
+            ObjectCodec objectCodec
     ) {
         this.issuer = issuer;
         this.subject = subject;
@@ -53,6 +109,9 @@ class PayloadImpl implements Payload, Serializable {
         this.expiresAt = expiresAt;
         this.notBefore = notBefore;
         this.issuedAt = issuedAt;
+        this.expiresAtInstant = expiresAtInstant;
+        this.notBeforeInstant = notBeforeInstant;
+        this.issuedAtInstant = issuedAtInstant;
         this.jwtId = jwtId;
         this.tree = tree != null ? Collections.unmodifiableMap(tree) : Collections.emptyMap();
         this.objectCodec = objectCodec;
@@ -79,32 +138,50 @@ class PayloadImpl implements Payload, Serializable {
 
     @Override
     public Date getExpiresAt() {
-        return (expiresAt != null) ? Date.from(expiresAt) : null;
+        Instant instant = getExpiresAtAsInstant();
+        return (instant != null) ? Date.from(instant) : null;
     }
 
 
     @Override
     public Instant getExpiresAtAsInstant() {
+        return instantOf(expiresAtInstant, expiresAt);
+    }
+
+    @Override
+    public long getExpiresAtAsEpochSecond() {
         return expiresAt;
     }
 
     @Override
     public Date getIssuedAt() {
-        return (issuedAt != null) ? Date.from(issuedAt) : null;
+        Instant instant = getIssuedAtAsInstant();
+        return (instant != null) ? Date.from(instant) : null;
     }
 
     @Override
     public Instant getIssuedAtAsInstant() {
+        return instantOf(issuedAtInstant, issuedAt);
+    }
+
+    @Override
+    public long getIssuedAtAsEpochSecond() {
         return issuedAt;
     }
 
     @Override
     public Date getNotBefore() {
-        return (notBefore != null) ? Date.from(notBefore) : null;
+        Instant instant = getNotBeforeAsInstant();
+        return (instant != null) ? Date.from(instant) : null;
     }
 
     @Override
     public Instant getNotBeforeAsInstant() {
+        return instantOf(notBeforeInstant, notBefore);
+    }
+
+    @Override
+    public long getNotBeforeAsEpochSecond() {
         return notBefore;
     }
 
@@ -126,4 +203,48 @@ class PayloadImpl implements Payload, Serializable {
         }
         return Collections.unmodifiableMap(claims);
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("issuer", issuer);
+        fields.put("subject", subject);
+        fields.put("audience", audience);
+        fields.put("expiresAt", getExpiresAtAsInstant());
+        fields.put("notBefore", getNotBeforeAsInstant());
+        fields.put("issuedAt", getIssuedAtAsInstant());
+        fields.put("jwtId", jwtId);
+        fields.put("tree", tree);
+        fields.put("objectCodec", objectCodec);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        deserialized = new PayloadImpl(
+                (String) fields.get("issuer", null),
+                (String) fields.get("subject", null),
+                (List<String>) fields.get("audience", null),
+                (Instant) fields.get("expiresAt", null),
+                (Instant) fields.get("notBefore", null),
+                (Instant) fields.get("issuedAt", null),
+                (String) fields.get("jwtId", null),
+                (Map<String, JsonNode>) fields.get("tree", null),
+                (ObjectCodec) fields.get("objectCodec", null));
+    }
+
+    private Object readResolve() {
+        return deserialized;
+    }
+
+    private static long epochSecondOf(Instant instant) {
+        return instant != null ? instant.getEpochSecond() : NO_EPOCH_SECOND;
+    }
+
+    private static Instant instantOf(Instant instant, long epochSecond) {
+        if (instant != null || epochSecond == NO_EPOCH_SECOND) {
+            return instant;
+        }
+        return Instant.ofEpochSecond(epochSecond);
+    }
 }
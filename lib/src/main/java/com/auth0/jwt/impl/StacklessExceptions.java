@@ -0,0 +1,53 @@
+package com.auth0.jwt.impl;
+
+/**
+ * Tracks, per thread, whether the current verification rejects tokens with exceptions that skip capturing their
+ * stack trace. Only the places where this library rejects a token read it, and pass it to the constructor of the
+ * {@link com.auth0.jwt.exceptions.JWTVerificationException}. The exceptions created by any other code called while
+ * verifying, such as claim predicates and key providers, keep their stack trace.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see com.auth0.jwt.interfaces.Verification#withStacklessExceptions()
+ */
+public final class StacklessExceptions {
+
+    private static final ThreadLocal<Boolean> ENABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private StacklessExceptions() {
+    }
+
+    /**
+     * Makes the exceptions rejecting a token on the current thread stackless, until {@link #restore(boolean)} is
+     * called.
+     *
+     * @return whether they were already stackless, to be given back to {@link #restore(boolean)}.
+     */
+    public static boolean enable() {
+        boolean previous = ENABLED.get();
+        if (!previous) {
+            ENABLED.set(Boolean.TRUE);
+        }
+        return previous;
+    }
+
+    /**
+     * Restores the mode that was active before the matching call to {@link #enable()}.
+     *
+     * @param previous the value returned by {@link #enable()}.
+     */
+    public static void restore(boolean previous) {
+        if (!previous) {
+            ENABLED.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * Whether the exceptions rejecting a token on the current thread should capture their stack trace.
+     *
+     * @return false if the current verification uses stackless exceptions.
+     */
+    public static boolean writableStackTrace() {
+        return !ENABLED.get();
+    }
+}
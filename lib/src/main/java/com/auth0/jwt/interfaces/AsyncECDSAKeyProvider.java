@@ -0,0 +1,10 @@
+package com.auth0.jwt.interfaces;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+
+/**
+ * Elliptic Curve (EC) Public/Private Key provider that resolves the Public Key asynchronously.
+ */
+public interface AsyncECDSAKeyProvider extends ECDSAKeyProvider, AsyncKeyProvider<ECPublicKey, ECPrivateKey> {
+}
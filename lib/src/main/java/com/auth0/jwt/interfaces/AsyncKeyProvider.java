@@ -0,0 +1,38 @@
+package com.auth0.jwt.interfaces;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Generic Public/Private Key provider able to resolve the Public Key without blocking the calling thread.
+ * Used by {@link JWTVerifier#verifyAsync(String)}, while the blocking {@link #getPublicKeyById(String)}
+ * keeps being used by {@link JWTVerifier#verify(String)}.
+ *
+ * @param <U> the class that represents the Public Key
+ * @param <R> the class that represents the Private Key
+ */
+interface AsyncKeyProvider<U extends PublicKey, R extends PrivateKey> extends KeyProvider<U, R> {
+
+    /**
+     * Getter for the Public Key instance with the given Id. Used to verify the signature on the asynchronous
+     * JWT verification stage. The returned future must not be completed by blocking the calling thread.
+     *
+     * @param keyId the Key Id specified in the Token's Header or null if none is available.
+     *              Provides a hint on which Public Key to use to verify the token's signature.
+     * @return a future completed with the Public Key instance
+     */
+    CompletableFuture<U> getPublicKeyByIdAsync(String keyId);
+
+    /**
+     * Getter for the Public Key instance with the given Id. By default, waits for the key returned by
+     * {@link #getPublicKeyByIdAsync(String)}.
+     *
+     * @param keyId the Key Id specified in the Token's Header or null if none is available.
+     * @return the Public Key instance
+     */
+    @Override
+    default U getPublicKeyById(String keyId) {
+        return getPublicKeyByIdAsync(keyId).join();
+    }
+}
@@ -0,0 +1,10 @@
+package com.auth0.jwt.interfaces;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * RSA Public/Private Key provider that resolves the Public Key asynchronously.
+ */
+public interface AsyncRSAKeyProvider extends RSAKeyProvider, AsyncKeyProvider<RSAPublicKey, RSAPrivateKey> {
+}
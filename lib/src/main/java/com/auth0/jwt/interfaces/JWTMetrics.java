@@ -0,0 +1,73 @@
+package com.auth0.jwt.interfaces;
+
+import com.auth0.jwt.VerificationResult;
+
+/**
+ * Receives the time spent in each stage of verifying and signing tokens, and the outcome of each token, to feed
+ * a metrics library. Set it with {@link Verification#withMetrics(JWTMetrics)} and
+ * {@link com.auth0.jwt.JWTCreator.Builder#withMetrics(JWTMetrics)}. All the methods do nothing by default, so an
+ * implementation only overrides the ones it needs. Without metrics, the verifier and creator don't read the
+ * clock at all.
+ * <p>
+ * The methods are called synchronously on the thread verifying or signing the token, so they must be fast and
+ * thread-safe, and they should not throw. Durations are in nanoseconds, as measured by {@link System#nanoTime()}.
+ */
+public interface JWTMetrics {
+
+    /**
+     * A stage of verifying or signing a token.
+     */
+    enum Stage {
+        /**
+         * Splitting the token, and decoding and parsing its Header and Payload.
+         */
+        DECODE,
+        /**
+         * Getting the Public Key from the key provider of an RSA or ECDSA algorithm.
+         */
+        KEY_LOOKUP,
+        /**
+         * Verifying or creating the signature. For algorithms without a key provider it also includes getting
+         * the key.
+         */
+        SIGNATURE,
+        /**
+         * Checking the claims of the token.
+         */
+        CLAIMS,
+        /**
+         * Serializing and encoding the Header and Payload of a new token.
+         */
+        ENCODE
+    }
+
+    /**
+     * Called after a stage of a token, whether it succeeded or not.
+     *
+     * @param stage         the stage.
+     * @param algorithm     the "alg" of the token, or null if it couldn't be decoded.
+     * @param durationNanos the time spent in the stage.
+     */
+    default void recordStage(Stage stage, String algorithm, long durationNanos) {
+    }
+
+    /**
+     * Called once a token is verified or rejected.
+     *
+     * @param algorithm     the "alg" of the token, or null if it couldn't be decoded.
+     * @param failure       why the token was rejected, or null if it's valid.
+     * @param durationNanos the time spent verifying the token.
+     */
+    default void recordVerification(String algorithm, VerificationResult.Reason failure, long durationNanos) {
+    }
+
+    /**
+     * Called once a token is signed, or failed to be.
+     *
+     * @param algorithm     the name of the Algorithm signing the token.
+     * @param success       whether the token was signed.
+     * @param durationNanos the time spent creating the token.
+     */
+    default void recordSigning(String algorithm, boolean success, long durationNanos) {
+    }
+}
@@ -2,6 +2,8 @@ package com.auth0.jwt.interfaces;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 
+import java.util.concurrent.CompletableFuture;
+
 
 /**
  * Used to verify the JWT for its signature and claims. Implementations must be thread-safe. Instances are created
@@ -37,4 +39,22 @@ public interface JWTVerifier {
      * @throws JWTVerificationException if any of the verification steps fail
      */
     DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException;
+
+    /**
+     * Performs the verification against the given Token without blocking the calling thread on the
+     * resolution of the key. By default, the token is verified on the calling thread.
+     *
+     * @param token to verify.
+     * @return a future completed with the verified and decoded JWT, or completed exceptionally with a
+     *         {@link JWTVerificationException} if any of the verification steps fail.
+     */
+    default CompletableFuture<DecodedJWT> verifyAsync(String token) {
+        CompletableFuture<DecodedJWT> result = new CompletableFuture<>();
+        try {
+            result.complete(verify(token));
+        } catch (JWTVerificationException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
 }
@@ -10,6 +10,12 @@ import java.util.Map;
  */
 public interface Payload {
 
+    /**
+     * Value returned by the epoch-second getters, such as {@link #getExpiresAtAsEpochSecond()}, when the claim
+     * is not available.
+     */
+    long NO_EPOCH_SECOND = Long.MIN_VALUE;
+
     /**
      * Get the value of the "iss" claim, or null if it's not available.
      *
@@ -47,6 +53,17 @@ public interface Payload {
         return getExpiresAt() != null ? getExpiresAt().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "exp" claim as seconds since the epoch, or {@link #NO_EPOCH_SECOND} if it's not
+     * available. Unlike {@link #getExpiresAtAsInstant()}, this doesn't need to create an object.
+     *
+     * @return the Expiration Time value in epoch seconds or {@link #NO_EPOCH_SECOND}.
+     */
+    default long getExpiresAtAsEpochSecond() {
+        Instant instant = getExpiresAtAsInstant();
+        return instant != null ? instant.getEpochSecond() : NO_EPOCH_SECOND;
+    }
+
     /**
      * Get the value of the "nbf" claim, or null if it's not available.
      *
@@ -63,6 +80,17 @@ public interface Payload {
         return getNotBefore() != null ? getNotBefore().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "nbf" claim as seconds since the epoch, or {@link #NO_EPOCH_SECOND} if it's not
+     * available. Unlike {@link #getNotBeforeAsInstant()}, this doesn't need to create an object.
+     *
+     * @return the Not Before value in epoch seconds or {@link #NO_EPOCH_SECOND}.
+     */
+    default long getNotBeforeAsEpochSecond() {
+        Instant instant = getNotBeforeAsInstant();
+        return instant != null ? instant.getEpochSecond() : NO_EPOCH_SECOND;
+    }
+
     /**
      * Get the value of the "iat" claim, or null if it's not available.
      *
@@ -79,6 +107,17 @@ public interface Payload {
         return getIssuedAt() != null ? getIssuedAt().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "iat" claim as seconds since the epoch, or {@link #NO_EPOCH_SECOND} if it's not
+     * available. Unlike {@link #getIssuedAtAsInstant()}, this doesn't need to create an object.
+     *
+     * @return the Issued At value in epoch seconds or {@link #NO_EPOCH_SECOND}.
+     */
+    default long getIssuedAtAsEpochSecond() {
+        Instant instant = getIssuedAtAsInstant();
+        return instant != null ? instant.getEpochSecond() : NO_EPOCH_SECOND;
+    }
+
     /**
      * Get the value of the "jti" claim, or null if it's not available.
      *
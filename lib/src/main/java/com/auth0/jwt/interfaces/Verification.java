@@ -1,6 +1,7 @@
 package com.auth0.jwt.interfaces;
 
 import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
 
 import java.time.Instant;
 import java.util.Date;
@@ -258,6 +259,94 @@ public interface Verification {
      */
     Verification ignoreIssuedAt();
 
+    /**
+     * Keeps up to the given number of successfully verified tokens in memory, so that verifying the exact same
+     * token again skips decoding and the signature check. On a cache hit only the time-based claims
+     * ("exp", "nbf" and "iat", with the configured leeways) and the custom predicates given to
+     * {@link #withClaim(String, BiPredicate)} are checked again. Tokens are evicted once they expire, and at
+     * most 5 minutes after being verified, and the oldest token is evicted when the cache is full. As the
+     * signature of a cached token is not checked again, removing its key from a key provider only rejects the
+     * token once it's evicted. By default, no token is cached.
+     *
+     * @param maxSize the maximum number of verified tokens to keep.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    Verification withVerifiedTokenCache(int maxSize) throws IllegalArgumentException;
+
+    /**
+     * Checks the time-based claims ("exp", "nbf" and "iat") and the expected issuer and audience before the
+     * token's signature, so that a token failing any of them is rejected without the cost of verifying its
+     * signature. These checks throw the same exceptions as usual, and a token is still only accepted once its
+     * signature is verified. Note that this means the Payload is parsed before the signature is verified, and
+     * that a forged token may be reported as, for example, expired instead of having an invalid signature.
+     * By default, all the claims are checked after the signature.
+     *
+     * @return this same Verification instance.
+     */
+    Verification checkClaimsBeforeSignature();
+
+    /**
+     * Makes the {@link com.auth0.jwt.exceptions.JWTVerificationException}s thrown by the verifier skip capturing
+     * their stack trace, which is most of the cost of rejecting a token. The exceptions keep their type, message
+     * and details, but {@link Throwable#getStackTrace()} returns an empty array. Only the exceptions created by the
+     * verifier itself are stackless: the exceptions thrown by the claim predicates and key providers given to it keep
+     * their stack trace, and are the cause of the exception thrown by the verifier when it wraps them.
+     * By default, the exceptions have a stack trace.
+     *
+     * @return this same Verification instance.
+     */
+    Verification withStacklessExceptions();
+
+    /**
+     * Accepts tokens signed with the given Algorithm too, for instance while migrating to a new algorithm or key.
+     * The verifier picks the Algorithm matching the "alg" of each token's Header with a single lookup, decoding
+     * the token once, and runs the same claim checks whatever the Algorithm.
+     * By default, only the Algorithm given to create this Verification is accepted.
+     *
+     * @param algorithm another Algorithm to accept, with a different name than the already accepted ones.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException if the Algorithm is null, or one with the same name is already accepted.
+     */
+    Verification acceptAlgorithm(Algorithm algorithm) throws IllegalArgumentException;
+
+    /**
+     * Accepts tokens signed with the given Algorithm too, when their Header has the given "kid". For tokens with
+     * this key id, it takes precedence over an Algorithm of the same name accepted for any key id.
+     *
+     * @param algorithm another Algorithm to accept.
+     * @param keyId     the "kid" of the tokens to verify with this Algorithm.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException if the Algorithm or key id is null, or an Algorithm with the same name is
+     *                                  already accepted for this key id.
+     * @see #acceptAlgorithm(Algorithm)
+     */
+    Verification acceptAlgorithm(Algorithm algorithm, String keyId) throws IllegalArgumentException;
+
+    /**
+     * Makes the verifier read the current time for the "exp", "nbf" and "iat" checks from a coarse clock, whose
+     * value is refreshed by a single background thread shared by all the verifiers instead of being read from
+     * the system on every token. The time may lag behind by up to a tenth of a second, which is below the
+     * seconds precision of the time claims. The thread stops once the clock isn't read for a second.
+     * By default, the system clock is read for every token.
+     *
+     * @return this same Verification instance.
+     */
+    Verification withCoarseClock();
+
+    /**
+     * Reports the time spent decoding each token, looking up its key, verifying its signature and checking its
+     * claims, and the outcome of each token, to the given metrics. Tokens verified with
+     * {@link com.auth0.jwt.interfaces.JWTVerifier#verifyAsync(String)} only report their outcome, as their
+     * stages may run on other threads.
+     * By default, nothing is measured.
+     *
+     * @param metrics the metrics receiving the timings.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException if the metrics are null.
+     */
+    Verification withMetrics(JWTMetrics metrics) throws IllegalArgumentException;
+
     /**
      * Creates a new and reusable instance of the JWTVerifier with the configuration already provided.
      *
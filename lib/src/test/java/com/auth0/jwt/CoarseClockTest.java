@@ -0,0 +1,65 @@
+package com.auth0.jwt;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CoarseClockTest {
+
+    @Test
+    public void shouldBeCloseToSystemTime() {
+        Clock clock = CoarseClock.getInstance();
+        long before = System.currentTimeMillis();
+        long millis = clock.millis();
+        long after = System.currentTimeMillis();
+
+        assertThat(millis, is(greaterThanOrEqualTo(before - 2 * CoarseClock.TICK_MILLIS)));
+        assertThat(millis, is(lessThanOrEqualTo(after)));
+        assertThat(clock.instant().toEpochMilli(), is(greaterThanOrEqualTo(millis)));
+    }
+
+    @Test
+    public void shouldAdvanceOverTime() throws Exception {
+        Clock clock = CoarseClock.getInstance();
+        long first = clock.millis();
+        Thread.sleep(3 * CoarseClock.TICK_MILLIS);
+
+        assertThat(clock.millis(), is(greaterThan(first)));
+    }
+
+    @Test
+    public void shouldBeInUTCByDefault() {
+        Clock clock = CoarseClock.getInstance();
+
+        assertThat(clock.getZone(), is(ZoneOffset.UTC));
+        assertThat(clock.withZone(ZoneOffset.UTC), is(sameInstance(clock)));
+    }
+
+    @Test
+    public void shouldChangeZone() {
+        Clock clock = CoarseClock.getInstance().withZone(ZoneId.of("Europe/Paris"));
+
+        assertThat(clock.getZone(), is(ZoneId.of("Europe/Paris")));
+        long millis = clock.millis();
+        assertThat(CoarseClock.getInstance().millis() - millis, is(lessThanOrEqualTo(CoarseClock.TICK_MILLIS)));
+    }
+
+    @Test
+    public void shouldStopTickingWhenNotRead() throws Exception {
+        Clock clock = CoarseClock.getInstance();
+        clock.millis();
+        assertThat(CoarseClock.isTicking(), is(true));
+
+        Thread.sleep((CoarseClock.IDLE_TICKS + 5) * CoarseClock.TICK_MILLIS);
+        assertThat(CoarseClock.isTicking(), is(false));
+
+        long before = System.currentTimeMillis();
+        assertThat(clock.millis(), is(greaterThanOrEqualTo(before)));
+        assertThat(CoarseClock.isTicking(), is(true));
+    }
+}
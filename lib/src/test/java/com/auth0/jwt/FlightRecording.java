@@ -0,0 +1,76 @@
+package com.auth0.jwt;
+
+import org.junit.Assume;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the events of the Java Flight Recorder with the given name while running an action, and returns their
+ * fields. The tests are compiled for Java 8, so jdk.jfr is used through reflection, and the tests using it are
+ * skipped on a JVM without it.
+ */
+public class FlightRecording {
+
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static List<Map<String, Object>> record(String eventName, Action action) throws Exception {
+        Class<?> recordingClass;
+        try {
+            recordingClass = Class.forName("jdk.jfr.Recording");
+        } catch (ClassNotFoundException e) {
+            Assume.assumeNoException("The Java Flight Recorder is not available", e);
+            return null;
+        }
+        Object recording = recordingClass.getConstructor().newInstance();
+        Path file = Files.createTempFile("jwt", ".jfr");
+        try {
+            Object settings = recordingClass.getMethod("enable", String.class).invoke(recording, eventName);
+            Method withThreshold = Class.forName("jdk.jfr.EventSettings").getMethod("withThreshold", Duration.class);
+            withThreshold.invoke(settings, Duration.ZERO);
+            recordingClass.getMethod("start").invoke(recording);
+            try {
+                action.run();
+            } finally {
+                recordingClass.getMethod("stop").invoke(recording);
+            }
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+            return readEvents(eventName, file);
+        } finally {
+            recordingClass.getMethod("close").invoke(recording);
+            Files.delete(file);
+        }
+    }
+
+    private static List<Map<String, Object>> readEvents(String eventName, Path file) throws Exception {
+        Class<?> recordingFileClass = Class.forName("jdk.jfr.consumer.RecordingFile");
+        Class<?> recordedObjectClass = Class.forName("jdk.jfr.consumer.RecordedObject");
+        Method getEventType = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType");
+        Method getTypeName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+        Method getFields = recordedObjectClass.getMethod("getFields");
+        Method getFieldName = Class.forName("jdk.jfr.ValueDescriptor").getMethod("getName");
+        Method getValue = recordedObjectClass.getMethod("getValue", String.class);
+
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (Object event : (List<?>) recordingFileClass.getMethod("readAllEvents", Path.class).invoke(null, file)) {
+            if (!eventName.equals(getTypeName.invoke(getEventType.invoke(event)))) {
+                continue;
+            }
+            Map<String, Object> fields = new HashMap<>();
+            for (Object field : (List<?>) getFields.invoke(event)) {
+                String name = (String) getFieldName.invoke(field);
+                fields.put(name, getValue.invoke(event, name));
+            }
+            events.add(fields);
+        }
+        return events;
+    }
+}
@@ -1,6 +1,8 @@
 package com.auth0.jwt;
 
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureGenerationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,6 +11,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.RSAPrivateKey;
@@ -17,6 +22,7 @@ import java.util.*;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -1057,4 +1063,171 @@ public class JWTCreatorTest {
         assertThat("Claim insertion order should be preserved",
                 payloadFields, is(equalTo(payloadInsertionOrder)));
     }
+
+    @Test
+    public void shouldSignWithTemplateLikeTheBuilder() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withKeyId("my-key")
+                .withIssuer("auth0")
+                .toTemplate(algorithm);
+
+        String expected = JWTCreator.init()
+                .withKeyId("my-key")
+                .withIssuer("auth0")
+                .sign(algorithm);
+
+        assertThat(template.sign(), is(expected));
+    }
+
+    @Test
+    public void shouldAddPerTokenClaimsToTemplate() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withIssuer("auth0")
+                .withClaim("scope", "read")
+                .toTemplate(algorithm);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "1234567890");
+        claims.put("scope", "write");
+
+        String[] parts = template.sign(claims).split("\\.");
+        String[] otherParts = template.sign(Collections.singletonMap("sub", "other")).split("\\.");
+
+        String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        assertThat(payloadJson, JsonMatcher.hasEntry("iss", "auth0"));
+        assertThat(payloadJson, JsonMatcher.hasEntry("sub", "1234567890"));
+        assertThat(payloadJson, JsonMatcher.hasEntry("scope", "write"));
+        assertThat(otherParts[0], is(parts[0]));
+        assertThat(otherParts[1], is(not(parts[1])));
+    }
+
+    @Test
+    public void shouldNotChangeTemplateWhenBuilderChanges() {
+        JWTCreator.Builder builder = JWTCreator.init().withIssuer("auth0");
+        JWTCreator.Template template = builder.toTemplate(Algorithm.HMAC256("secret"));
+        builder.withIssuer("other").withKeyId("my-key");
+
+        String[] parts = template.sign().split("\\.");
+
+        String headerJson = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+        String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        assertThat(headerJson, JsonMatcher.hasEntry("alg", "HS256"));
+        assertThat(headerJson, not(containsString("kid")));
+        assertThat(payloadJson, JsonMatcher.hasEntry("iss", "auth0"));
+    }
+
+    @Test
+    public void shouldThrowWhenRequestingTemplateWithoutAlgorithm() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Algorithm cannot be null");
+        JWTCreator.init()
+                .toTemplate(null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidTemplateClaims() {
+        JWTCreator.Template template = JWTCreator.init().toTemplate(Algorithm.HMAC256("secret"));
+
+        exception.expect(IllegalArgumentException.class);
+        template.sign(Collections.singletonMap("object", new Object()));
+    }
+
+    @Test
+    public void shouldWriteSignedTokenIntoByteBuffer() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String expected = JWTCreator.init().withIssuer("auth0").sign(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate(200);
+        buffer.put((byte) '#');
+
+        int written = JWTCreator.init().withIssuer("auth0").sign(algorithm, buffer);
+
+        assertThat(written, is(expected.length()));
+        assertThat(buffer.position(), is(1 + written));
+        assertThat(new String(buffer.array(), 1, written, StandardCharsets.US_ASCII), is(expected));
+    }
+
+    @Test
+    public void shouldNotWriteIntoByteBufferWithoutEnoughSpace() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+
+        assertThrows(null, BufferOverflowException.class,
+                () -> JWTCreator.init().withIssuer("auth0").sign(Algorithm.HMAC256("secret"), buffer));
+        assertThat(buffer.position(), is(0));
+    }
+
+    @Test
+    public void shouldWriteSignedTokenToOutputStream() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String expected = JWTCreator.init().withIssuer("auth0").withSubject("1234567890").sign(algorithm);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        JWTCreator.init().withIssuer("auth0").toTemplate(algorithm)
+                .sign(Collections.singletonMap("sub", "1234567890"), stream);
+
+        assertThat(new String(stream.toByteArray(), StandardCharsets.US_ASCII), is(expected));
+    }
+
+    @Test
+    public void shouldThrowWhenRequestingSignWithoutTarget() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The target cannot be null.");
+        JWTCreator.init()
+                .sign(Algorithm.HMAC256("secret"), (ByteBuffer) null);
+    }
+
+    @Test
+    public void shouldReportEncodingAndSignatureToMetrics() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+
+        JWTCreator.init().withIssuer("auth0").withMetrics(metrics).sign(algorithm);
+        assertThat(metrics.events, contains("ENCODE:HS256", "SIGNATURE:HS256", "signed:HS256:true"));
+
+        metrics.events.clear();
+        JWTCreator.init().withMetrics(metrics).toTemplate(algorithm).sign(Collections.singletonMap("sub", "1234"));
+        assertThat(metrics.events, contains("ENCODE:HS256", "SIGNATURE:HS256", "signed:HS256:true"));
+        assertThat(metrics.negativeDuration, is(false));
+    }
+
+    @Test
+    public void shouldReportFailedSigningToMetrics() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        RSAKeyProvider provider = mock(RSAKeyProvider.class);
+        when(provider.getPrivateKey()).thenReturn(null);
+        Algorithm algorithm = Algorithm.RSA256(provider);
+
+        assertThrows(null, SignatureGenerationException.class,
+                () -> JWTCreator.init().withMetrics(metrics).sign(algorithm));
+        assertThat(metrics.events, contains("ENCODE:RS256", "SIGNATURE:RS256", "signed:RS256:false"));
+    }
+
+    @Test
+    public void shouldThrowOnNullMetrics() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Metrics cannot be null.");
+        JWTCreator.init().withMetrics(null);
+    }
+
+    @Test
+    public void shouldSignWithHeaderPayloadMethodOfCustomAlgorithm() {
+        Algorithm algorithm = new Algorithm("custom", "Custom") {
+            @Override
+            public void verify(DecodedJWT jwt) {
+            }
+
+            @Override
+            public byte[] sign(byte[] headerBytes, byte[] payloadBytes) {
+                return new byte[]{0x01, 0x02, 0x03};
+            }
+
+            @Override
+            public byte[] sign(byte[] contentBytes) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        String signed = JWTCreator.init().sign(algorithm);
+
+        assertThat(signed, endsWith(".AQID"));
+    }
 }
@@ -0,0 +1,36 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.interfaces.JWTMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link JWTMetrics} that records what it's called with, as "STAGE:alg", "verified:alg:REASON" and
+ * "signed:alg:true" entries.
+ */
+public class RecordingMetrics implements JWTMetrics {
+
+    public final List<String> events = new ArrayList<>();
+    public boolean negativeDuration;
+
+    @Override
+    public void recordStage(Stage stage, String algorithm, long durationNanos) {
+        record(stage + ":" + algorithm, durationNanos);
+    }
+
+    @Override
+    public void recordVerification(String algorithm, VerificationResult.Reason failure, long durationNanos) {
+        record("verified:" + algorithm + ":" + failure, durationNanos);
+    }
+
+    @Override
+    public void recordSigning(String algorithm, boolean success, long durationNanos) {
+        record("signed:" + algorithm + ":" + success, durationNanos);
+    }
+
+    private synchronized void record(String event, long durationNanos) {
+        events.add(event);
+        negativeDuration |= durationNanos < 0;
+    }
+}
@@ -9,6 +9,8 @@ import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.Provider;
+import java.security.Security;
 import java.security.interfaces.*;
 
 import static org.hamcrest.Matchers.*;
@@ -16,6 +18,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 public class AlgorithmTest {
@@ -72,6 +75,40 @@ public class AlgorithmTest {
         Algorithm.HMAC512(secret);
     }
 
+    @Test
+    public void shouldThrowRSA256InstanceWithNullSecurityProvider() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Security Provider cannot be null.");
+        Algorithm.RSA256WithSecurityProvider(mock(RSAKeyProvider.class), null);
+    }
+
+    @Test
+    public void shouldThrowECDSA256InstanceWithNullSecurityProvider() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Security Provider cannot be null.");
+        Algorithm.ECDSA256WithSecurityProvider(mock(ECDSAKeyProvider.class), null);
+    }
+
+    @Test
+    public void shouldCreateRSAAlgorithmsWithSecurityProvider() {
+        Provider provider = Security.getProvider("SunRsaSign");
+        RSAKeyProvider keyProvider = mock(RSAKeyProvider.class);
+
+        assertThat(Algorithm.RSA256WithSecurityProvider(keyProvider, provider).getName(), is("RS256"));
+        assertThat(Algorithm.RSA384WithSecurityProvider(keyProvider, provider).getName(), is("RS384"));
+        assertThat(Algorithm.RSA512WithSecurityProvider(keyProvider, provider).getName(), is("RS512"));
+    }
+
+    @Test
+    public void shouldCreateECDSAAlgorithmsWithSecurityProvider() {
+        Provider provider = Security.getProvider("SunEC");
+        ECDSAKeyProvider keyProvider = mock(ECDSAKeyProvider.class);
+
+        assertThat(Algorithm.ECDSA256WithSecurityProvider(keyProvider, provider).getName(), is("ES256"));
+        assertThat(Algorithm.ECDSA384WithSecurityProvider(keyProvider, provider).getName(), is("ES384"));
+        assertThat(Algorithm.ECDSA512WithSecurityProvider(keyProvider, provider).getName(), is("ES512"));
+    }
+
     @Test
     public void shouldThrowRSA256InstanceWithNullKey() {
         exception.expect(IllegalArgumentException.class);
@@ -573,4 +610,24 @@ public class AlgorithmTest {
         assertThat(sign, is(signature));
         assertThat(contentCaptor.getValue(), is(bout.toByteArray()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldForwardRangeToHeaderPayloadSignMethod() {
+        Algorithm algorithm = mock(Algorithm.class);
+
+        ArgumentCaptor<byte[]> headerCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        byte[] content = new byte[]{0x00, 0x01, 0x02, '.', 0x04, 0x05, 0x06};
+
+        byte[] signature = new byte[]{0x10, 0x11, 0x12};
+        when(algorithm.sign(any(byte[].class), anyInt(), anyInt())).thenCallRealMethod();
+        when(algorithm.sign(headerCaptor.capture(), payloadCaptor.capture())).thenReturn(signature);
+
+        byte[] sign = algorithm.sign(content, 1, 5);
+
+        assertThat(sign, is(signature));
+        assertThat(headerCaptor.getValue(), is(new byte[]{0x01, 0x02}));
+        assertThat(payloadCaptor.getValue(), is(new byte[]{0x04, 0x05}));
+    }
+}
@@ -0,0 +1,75 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.FlightRecording;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.RecordingMetrics;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.Test;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+
+public class ECDSAKeySetTest {
+
+    private static final String PRIVATE_KEY_FILE_256 = "src/test/resources/ec256-key-private.pem";
+    private static final String PUBLIC_KEY_FILE_256 = "src/test/resources/ec256-key-public.pem";
+
+    @Test
+    public void shouldVerifyWithTheKeyOfTheKeyId() throws Exception {
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        ECDSAKeySet keySet = ECDSAKeySet.of(Collections.singletonMap("my-key-id", publicKey), "my-key-id", privateKey);
+        Algorithm algorithm = Algorithm.ECDSA256(keySet);
+        String token = JWT.create().sign(algorithm);
+
+        assertThat(JWT.decode(token).getKeyId(), is("my-key-id"));
+        JWT.require(algorithm).build().verify(token);
+        assertThat(keySet.index.get("my-key-id").verifyEngines, is(notNullValue()));
+    }
+
+    @Test
+    public void shouldFailToVerifyWithUnknownKeyId() throws Exception {
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        String token = JWT.create().withKeyId("other").sign(Algorithm.ECDSA256(null, privateKey));
+        Algorithm algorithm = Algorithm.ECDSA256(ECDSAKeySet.of(Collections.singletonMap("my-key-id", publicKey)));
+
+        assertThrows(null, SignatureVerificationException.class, () -> algorithm.verify(JWT.decode(token)));
+    }
+
+    @Test
+    public void shouldReportKeyLookupAndSignatureToMetrics() throws Exception {
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        ECDSAKeySet keySet = ECDSAKeySet.of(Collections.singletonMap("my-key-id", publicKey), "my-key-id", privateKey);
+        Algorithm algorithm = Algorithm.ECDSA256(keySet);
+        RecordingMetrics metrics = new RecordingMetrics();
+
+        algorithm.verify(JWT.decode(JWT.create().sign(algorithm)), metrics);
+        assertThat(metrics.events, contains("KEY_LOOKUP:ES256", "SIGNATURE:ES256"));
+    }
+    @Test
+    public void shouldRecordKeyLookupEventOfUnknownKeyId() throws Exception {
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        DecodedJWT jwt = JWT.decode(JWT.create().withKeyId("other").sign(Algorithm.ECDSA256(null, privateKey)));
+        Algorithm algorithm = Algorithm.ECDSA256(ECDSAKeySet.of(Collections.singletonMap("my-key-id", publicKey)));
+
+        List<Map<String, Object>> events = FlightRecording.record("com.auth0.jwt.KeyLookup",
+                () -> assertThrows(null, SignatureVerificationException.class, () -> algorithm.verify(jwt)));
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0), hasEntry("algorithm", "ES256"));
+        assertThat(events.get(0), hasEntry("keyId", "other"));
+        assertThat(events.get(0), hasEntry("found", false));
+    }
+}
@@ -0,0 +1,73 @@
+package com.auth0.jwt.algorithms;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class EnginePoolTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldCreateEngineWhenEmpty() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        EnginePool<Object> pool = new EnginePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 2);
+
+        assertThat(pool.acquire(), is(notNullValue()));
+        assertThat(pool.acquire(), is(notNullValue()));
+        assertThat(created.get(), is(2));
+    }
+
+    @Test
+    public void shouldReuseReleasedEngine() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        EnginePool<Object> pool = new EnginePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 2);
+
+        Object engine = pool.acquire();
+        pool.release(engine);
+
+        assertThat(pool.acquire(), is(sameInstance(engine)));
+        assertThat(created.get(), is(1));
+    }
+
+    @Test
+    public void shouldDropEnginesReleasedToAFullPool() throws Exception {
+        EnginePool<Object> pool = new EnginePool<>(Object::new, 1);
+        Object first = new Object();
+        Object second = new Object();
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire(), is(sameInstance(first)));
+        assertThat(pool.acquire(), is(allOf(not(sameInstance(first)), not(sameInstance(second)))));
+    }
+
+    @Test
+    public void shouldPropagateFactoryFailure() throws Exception {
+        exception.expect(NoSuchAlgorithmException.class);
+        EnginePool<Object> pool = new EnginePool<>(() -> {
+            throw new NoSuchAlgorithmException();
+        }, 1);
+        pool.acquire();
+    }
+
+    @Test
+    public void shouldThrowOnInvalidSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The pool size must be greater than zero.");
+        new EnginePool<>(Object::new, 0);
+    }
+}
@@ -0,0 +1,204 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+
+public class JWKSKeyProviderTest {
+
+    private static final String RSA_PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String RSA_PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+    private static final String EC_PRIVATE_KEY_FILE = "src/test/resources/ec256-key-private.pem";
+    private static final String EC_PUBLIC_KEY_FILE = "src/test/resources/ec256-key-public.pem";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadRSAAndECKeysFromFile() throws Exception {
+        Path file = writeJwks(rsaJwk("rsa-key"), ecJwk("ec-key"));
+        try (JWKSKeyProvider jwks = JWKSKeyProvider.fromFile(file)) {
+            assertThat(jwks.getRSAKeys().getKeyIds(), contains("rsa-key"));
+            assertThat(jwks.getECDSAKeys().getKeyIds(), contains("ec-key"));
+
+            String rsaToken = JWT.create().withKeyId("rsa-key").sign(Algorithm.RSA256(null, rsaPrivateKey()));
+            JWT.require(Algorithm.RSA256(jwks.getRSAKeys())).build().verify(rsaToken);
+            String ecToken = JWT.create().withKeyId("ec-key").sign(Algorithm.ECDSA256(null, ecPrivateKey()));
+            JWT.require(Algorithm.ECDSA256(jwks.getECDSAKeys())).build().verify(ecToken);
+        }
+    }
+
+    @Test
+    public void shouldIgnoreUnusableKeys() throws Exception {
+        String encryptionKey = rsaJwk("enc-key").replace("\"kty\"", "\"use\":\"enc\",\"kty\"");
+        String noKeyId = rsaJwk("no-kid").replace("\"kid\":\"no-kid\",", "");
+        String octetKey = "{\"kty\":\"oct\",\"kid\":\"hmac-key\",\"k\":\"c2VjcmV0\"}";
+        String otherCurve = "{\"kty\":\"OKP\",\"kid\":\"ed-key\",\"crv\":\"Ed25519\",\"x\":\"AA\"}";
+        Path file = writeJwks(rsaJwk("rsa-key"), encryptionKey, noKeyId, octetKey, otherCurve);
+
+        try (JWKSKeyProvider jwks = JWKSKeyProvider.fromFile(file)) {
+            assertThat(jwks.getRSAKeys().getKeyIds(), contains("rsa-key"));
+            assertThat(jwks.getECDSAKeys().getKeyIds(), is(empty()));
+            assertThat(jwks.getSkippedKeys(), is(aMapWithSize(2)));
+            assertThat(jwks.getSkippedKeys(), hasEntry("hmac-key", "The key type 'oct' is not supported."));
+            assertThat(jwks.getSkippedKeys(), hasEntry("ed-key", "The key type 'OKP' is not supported."));
+        }
+    }
+
+    @Test
+    public void shouldReloadKeysOnRefresh() throws Exception {
+        Path file = writeJwks(rsaJwk("rsa-key"));
+        try (JWKSKeyProvider jwks = JWKSKeyProvider.fromFile(file)) {
+            RSAKeySet keys = jwks.getRSAKeys();
+            writeJwks(file, rsaJwk("rotated-key"));
+            assertThat(keys.getKeyIds(), contains("rsa-key"));
+
+            jwks.refresh();
+            assertThat(keys.getKeyIds(), contains("rotated-key"));
+            assertThat(jwks.getRSAKeys(), is(sameInstance(keys)));
+        }
+    }
+
+    @Test
+    public void shouldReloadChangedFileInBackground() throws Exception {
+        Path file = writeJwks(rsaJwk("rsa-key"));
+        try (JWKSKeyProvider jwks = JWKSKeyProvider.fromFile(file, Duration.ofMillis(20))) {
+            writeJwks(file, rsaJwk("rsa-key"), ecJwk("ec-key"));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (jwks.getECDSAKeys().getKeyIds().isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(jwks.getECDSAKeys().getKeyIds(), contains("ec-key"));
+            assertThat(jwks.getRSAKeys().getKeyIds(), contains("rsa-key"));
+        }
+    }
+
+    @Test
+    public void shouldKeepKeysWhenRefreshFails() throws Exception {
+        Path file = writeJwks(rsaJwk("rsa-key"));
+        try (JWKSKeyProvider jwks = JWKSKeyProvider.fromFile(file)) {
+            Files.write(file, "{\"no-keys\":[]}".getBytes(StandardCharsets.UTF_8));
+
+            IOException e = assertThrows(null, IOException.class, jwks::refresh);
+            assertThat(e.getMessage(), is("The JWKS doesn't contain a 'keys' array."));
+            assertThat(jwks.getRSAKeys().getKeyIds(), contains("rsa-key"));
+        }
+    }
+
+    @Test
+    public void shouldLoadKeysFromSource() throws Exception {
+        byte[] jwks = jwks(rsaJwk("rsa-key")).getBytes(StandardCharsets.UTF_8);
+        try (JWKSKeyProvider provider = JWKSKeyProvider.fromSource(() -> new ByteArrayInputStream(jwks))) {
+            assertThat(provider.getRSAKeys().getPublicKeyById("rsa-key"), is(rsaPublicKey()));
+        }
+    }
+
+    @Test
+    public void shouldSkipInvalidKeysAndLoadTheOthers() throws Exception {
+        String missingY = "{\"kty\":\"EC\",\"kid\":\"missing-y\",\"crv\":\"P-256\",\"x\":\"AQ\"}";
+        String notBase64 = ecJwk("not-base64").replaceFirst("\"x\":\"[^\"]+\"", "\"x\":\"!\"");
+        String otherCurve = ecJwk("other-curve").replace("P-256", "secp256k1");
+        String invalidRSA = "{\"kty\":\"RSA\",\"kid\":\"invalid-rsa\",\"n\":\"AQ\",\"e\":\"!\"}";
+        byte[] jwks = jwks(rsaJwk("rsa-key"), missingY, notBase64, ecJwk("ec-key"), otherCurve, invalidRSA)
+                .getBytes(StandardCharsets.UTF_8);
+
+        try (JWKSKeyProvider provider = JWKSKeyProvider.fromSource(() -> new ByteArrayInputStream(jwks))) {
+            assertThat(provider.getRSAKeys().getKeyIds(), contains("rsa-key"));
+            assertThat(provider.getECDSAKeys().getKeyIds(), contains("ec-key"));
+            assertThat(provider.getSkippedKeys().keySet(),
+                    containsInAnyOrder("missing-y", "not-base64", "other-curve", "invalid-rsa"));
+            assertThat(provider.getSkippedKeys(),
+                    hasEntry("missing-y", "Not a valid Public Key: The 'y' parameter is missing."));
+            assertThat(provider.getSkippedKeys(), hasEntry("other-curve", "The curve 'secp256k1' is not supported."));
+
+            String ecToken = JWT.create().withKeyId("ec-key").sign(Algorithm.ECDSA256(null, ecPrivateKey()));
+            JWT.require(Algorithm.ECDSA256(provider.getECDSAKeys())).build().verify(ecToken);
+        }
+    }
+
+    @Test
+    public void shouldThrowOnInvalidArguments() throws Exception {
+        IllegalArgumentException e = assertThrows(null, IllegalArgumentException.class,
+                () -> JWKSKeyProvider.fromFile(null));
+        assertThat(e.getMessage(), is("The Path cannot be null."));
+
+        e = assertThrows(null, IllegalArgumentException.class, () -> JWKSKeyProvider.fromSource(null));
+        assertThat(e.getMessage(), is("The Source cannot be null."));
+
+        Path file = writeJwks(rsaJwk("rsa-key"));
+        e = assertThrows(null, IllegalArgumentException.class,
+                () -> JWKSKeyProvider.fromFile(file, Duration.ZERO));
+        assertThat(e.getMessage(), is("The refresh interval must be greater than zero."));
+    }
+
+    private Path writeJwks(String... jwks) throws IOException {
+        return writeJwks(folder.newFile().toPath(), jwks);
+    }
+
+    private static Path writeJwks(Path file, String... jwks) throws IOException {
+        return Files.write(file, jwks(jwks).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String jwks(String... jwks) {
+        return "{\"keys\":[" + String.join(",", jwks) + "]}";
+    }
+
+    private static String rsaJwk(String keyId) throws IOException {
+        RSAPublicKey key = rsaPublicKey();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + keyId + "\",\"n\":\"" + base64(key.getModulus(), 0)
+                + "\",\"e\":\"" + base64(key.getPublicExponent(), 0) + "\"}";
+    }
+
+    private static String ecJwk(String keyId) throws IOException {
+        ECPublicKey key = (ECPublicKey) readPublicKeyFromFile(EC_PUBLIC_KEY_FILE, "EC");
+        return "{\"kty\":\"EC\",\"kid\":\"" + keyId + "\",\"use\":\"sig\",\"crv\":\"P-256\",\"x\":\""
+                + base64(key.getW().getAffineX(), 32) + "\",\"y\":\"" + base64(key.getW().getAffineY(), 32) + "\"}";
+    }
+
+    private static String base64(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static RSAPublicKey rsaPublicKey() throws IOException {
+        return (RSAPublicKey) readPublicKeyFromFile(RSA_PUBLIC_KEY_FILE, "RSA");
+    }
+
+    private static RSAPrivateKey rsaPrivateKey() throws IOException {
+        return (RSAPrivateKey) readPrivateKeyFromFile(RSA_PRIVATE_KEY_FILE, "RSA");
+    }
+
+    private static ECPrivateKey ecPrivateKey() throws IOException {
+        return (ECPrivateKey) readPrivateKeyFromFile(EC_PRIVATE_KEY_FILE, "EC");
+    }
+}
@@ -0,0 +1,157 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.FlightRecording;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.Test;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+
+public class RSAKeySetTest {
+
+    private static final String PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+    private static final String INVALID_PUBLIC_KEY_FILE = "src/test/resources/rsa-public_invalid.pem";
+
+    @Test
+    public void shouldVerifyWithTheKeyOfTheKeyId() throws Exception {
+        RSAKeySet keySet = RSAKeySet.of(keys(), "my-key-id", privateKey());
+        Algorithm algorithm = Algorithm.RSA256(keySet);
+        String token = JWT.create().sign(algorithm);
+
+        assertThat(JWT.decode(token).getKeyId(), is("my-key-id"));
+        JWT.require(algorithm).build().verify(token);
+    }
+
+    @Test
+    public void shouldFailToVerifyWithoutKeyId() throws Exception {
+        Algorithm signing = Algorithm.RSA256(null, privateKey());
+        String token = JWT.create().sign(signing);
+        Algorithm algorithm = Algorithm.RSA256(RSAKeySet.of(keys()));
+
+        SignatureVerificationException e = assertThrows(null, SignatureVerificationException.class,
+                () -> algorithm.verify(JWT.decode(token)));
+        assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        assertThat(e.getCause().getMessage(), is("The given Public Key is null."));
+    }
+
+    @Test
+    public void shouldFailToVerifyWithTheWrongKey() throws Exception {
+        Map<String, RSAPublicKey> keys = new HashMap<>();
+        keys.put("my-key-id", (RSAPublicKey) readPublicKeyFromFile(INVALID_PUBLIC_KEY_FILE, "RSA"));
+        String token = JWT.create().withKeyId("my-key-id").sign(Algorithm.RSA256(null, privateKey()));
+        Algorithm algorithm = Algorithm.RSA256(RSAKeySet.of(keys));
+
+        assertThrows(null, SignatureVerificationException.class, () -> algorithm.verify(JWT.decode(token)));
+    }
+
+    @Test
+    public void shouldRotateKeys() throws Exception {
+        RSAKeySet keySet = RSAKeySet.of(Collections.emptyMap());
+        Algorithm algorithm = Algorithm.RSA256(keySet);
+        String token = JWT.create().withKeyId("my-key-id").sign(Algorithm.RSA256(null, privateKey()));
+
+        assertThrows(null, SignatureVerificationException.class, () -> algorithm.verify(JWT.decode(token)));
+
+        keySet.put("my-key-id", publicKey());
+        algorithm.verify(JWT.decode(token));
+        assertThat(keySet.getKeyIds(), contains("my-key-id"));
+
+        keySet.remove("my-key-id");
+        assertThrows(null, SignatureVerificationException.class, () -> algorithm.verify(JWT.decode(token)));
+        assertThat(keySet.getKeyIds(), is(empty()));
+
+        keySet.replaceAll(keys());
+        algorithm.verify(JWT.decode(token));
+    }
+
+    @Test
+    public void shouldKeepSignatureEnginesWithTheKey() throws Exception {
+        RSAPublicKey publicKey = publicKey();
+        RSAKeySet keySet = RSAKeySet.of(Collections.singletonMap("my-key-id", publicKey));
+        Algorithm algorithm = Algorithm.RSA256(keySet);
+        String token = JWT.create().withKeyId("my-key-id").sign(Algorithm.RSA256(null, privateKey()));
+
+        algorithm.verify(JWT.decode(token));
+        CryptoHelper.SignatureEngines engines = keySet.index.get("my-key-id").verifyEngines;
+        assertThat(engines, is(notNullValue()));
+
+        algorithm.verify(JWT.decode(token));
+        keySet.replaceAll(Collections.singletonMap("my-key-id", publicKey));
+        algorithm.verify(JWT.decode(token));
+        assertThat(keySet.index.get("my-key-id").verifyEngines, is(sameInstance(engines)));
+
+        keySet.put("my-key-id", publicKey());
+        assertThat(keySet.index.get("my-key-id").verifyEngines, is(sameInstance(engines)));
+
+        keySet.put("my-key-id", (RSAPublicKey) readPublicKeyFromFile(INVALID_PUBLIC_KEY_FILE, "RSA"));
+        assertThat(keySet.index.get("my-key-id").verifyEngines, is(nullValue()));
+    }
+
+    @Test
+    public void shouldRecordKeyLookupEvent() throws Exception {
+        Algorithm algorithm = Algorithm.RSA256(RSAKeySet.of(keys(), "my-key-id", privateKey()));
+        DecodedJWT jwt = JWT.decode(JWT.create().sign(algorithm));
+
+        List<Map<String, Object>> events = FlightRecording.record("com.auth0.jwt.KeyLookup",
+                () -> algorithm.verify(jwt));
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0), hasEntry("algorithm", "RS256"));
+        assertThat(events.get(0), hasEntry("keyId", "my-key-id"));
+        assertThat(events.get(0), hasEntry("provider", RSAKeySet.class.getName()));
+        assertThat(events.get(0), hasEntry("found", true));
+    }
+
+    @Test
+    public void shouldGetKeysById() throws Exception {
+        RSAPrivateKey privateKey = privateKey();
+        RSAKeySet keySet = RSAKeySet.of(keys(), "my-key-id", privateKey);
+
+        assertThat(keySet.getPublicKeyById("my-key-id"), is(notNullValue()));
+        assertThat(keySet.getPublicKeyById("other"), is(nullValue()));
+        assertThat(keySet.getPublicKeyById(null), is(nullValue()));
+        assertThat(keySet.getPrivateKey(), is(privateKey));
+        assertThat(keySet.getPrivateKeyId(), is("my-key-id"));
+        assertThat(RSAKeySet.of(keys()).getPrivateKey(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldThrowOnNullKeys() throws Exception {
+        IllegalArgumentException e = assertThrows(null, IllegalArgumentException.class, () -> RSAKeySet.of(null));
+        assertThat(e.getMessage(), is("The Public Keys cannot be null."));
+
+        e = assertThrows(null, IllegalArgumentException.class,
+                () -> RSAKeySet.of(Collections.singletonMap("my-key-id", null)));
+        assertThat(e.getMessage(), is("The Key Ids and Public Keys cannot be null."));
+
+        RSAKeySet keySet = RSAKeySet.of(keys());
+        RSAPublicKey publicKey = publicKey();
+        e = assertThrows(null, IllegalArgumentException.class, () -> keySet.put(null, publicKey));
+        assertThat(e.getMessage(), is("The Key Ids and Public Keys cannot be null."));
+        assertThat(keySet.getKeyIds(), contains("my-key-id"));
+    }
+
+    private static Map<String, RSAPublicKey> keys() throws Exception {
+        return Collections.singletonMap("my-key-id", publicKey());
+    }
+
+    private static RSAPublicKey publicKey() throws Exception {
+        return (RSAPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE, "RSA");
+    }
+
+    private static RSAPrivateKey privateKey() throws Exception {
+        return (RSAPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE, "RSA");
+    }
+}
@@ -12,6 +12,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.charset.StandardCharsets;
+
 import static com.auth0.jwt.impl.JWTParser.getDefaultObjectMapper;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -113,4 +115,43 @@ public class JWTParserTest {
         exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
         parser.parsePayload("}{");
     }
+
+    @Test
+    public void shouldParsePayloadFromBytes() throws Exception {
+        ObjectMapper mapper = mock(ObjectMapper.class);
+        ObjectReader reader = mock(ObjectReader.class);
+        when(mapper.readerFor(Payload.class)).thenReturn(reader);
+        JWTParser parser = new JWTParser(mapper);
+        byte[] json = "xx{}".getBytes(StandardCharsets.UTF_8);
+        parser.parsePayload(json, 2, 2);
+
+        verify(reader).readValue(json, 2, 2);
+    }
+
+    @Test
+    public void shouldParseHeaderFromBytes() throws Exception {
+        ObjectMapper mapper = mock(ObjectMapper.class);
+        ObjectReader reader = mock(ObjectReader.class);
+        when(mapper.readerFor(Header.class)).thenReturn(reader);
+        JWTParser parser = new JWTParser(mapper);
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        parser.parseHeader(json, 0, 2);
+
+        verify(reader).readValue(json, 0, 2);
+    }
+
+    @Test
+    public void shouldThrowWhenConvertingPayloadFromInvalidJsonBytes() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
+        byte[] json = "{}}{".getBytes(StandardCharsets.UTF_8);
+        parser.parsePayload(json, 2, 2);
+    }
+
+    @Test
+    public void shouldThrowWhenConvertingHeaderIfNullJsonBytes() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string 'null' doesn't have a valid JSON format.");
+        parser.parseHeader(null, 0, 0);
+    }
 }
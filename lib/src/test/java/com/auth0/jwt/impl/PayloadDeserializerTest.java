@@ -241,6 +241,34 @@ public class PayloadDeserializerTest {
         assertThat(instant.toEpochMilli(), is(2147493647L * 1000));
     }
 
+    @Test
+    public void shouldGetNoEpochSecondWhenParsingMissingOrNullNode() {
+        Map<String, JsonNode> tree = new HashMap<>();
+        tree.put("key", NullNode.getInstance());
+
+        assertThat(deserializer.getEpochSecond(tree, "key"), is(Payload.NO_EPOCH_SECOND));
+        assertThat(deserializer.getEpochSecond(tree, "missing"), is(Payload.NO_EPOCH_SECOND));
+    }
+
+    @Test
+    public void shouldGetEpochSecondWhenParsingNumericNode() {
+        Map<String, JsonNode> tree = new HashMap<>();
+        tree.put("key", new LongNode(2147493647L));
+
+        assertThat(deserializer.getEpochSecond(tree, "key"), is(2147493647L));
+    }
+
+    @Test
+    public void shouldThrowWhenParsingOutOfRangeDateNode() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The claim 'key' contained an out of range date value.");
+
+        Map<String, JsonNode> tree = new HashMap<>();
+        tree.put("key", new LongNode(Long.MIN_VALUE));
+
+        deserializer.getEpochSecond(tree, "key");
+    }
+
     @Test
     public void shouldGetNullStringWhenParsingNullNode() {
         Map<String, JsonNode> tree = new HashMap<>();
@@ -1,6 +1,7 @@
 package com.auth0.jwt.impl;
 
 import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -12,6 +13,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.time.Instant;
 import java.util.*;
 
@@ -140,6 +146,32 @@ public class PayloadImplTest {
         assertThat(payload.getIssuedAtAsInstant(), is(nullValue()));
     }
 
+    @Test
+    public void shouldGetTimeClaimsAsEpochSeconds() {
+        assertThat(payload.getExpiresAtAsEpochSecond(), is(expiresAt.getEpochSecond()));
+        assertThat(payload.getNotBeforeAsEpochSecond(), is(notBefore.getEpochSecond()));
+        assertThat(payload.getIssuedAtAsEpochSecond(), is(issuedAt.getEpochSecond()));
+    }
+
+    @Test
+    public void shouldGetMissingTimeClaimsAsNoEpochSecond() {
+        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        assertThat(payload.getExpiresAtAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+        assertThat(payload.getNotBeforeAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+        assertThat(payload.getIssuedAtAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+    }
+
+    @Test
+    public void shouldGetInstantsFromEpochSeconds() {
+        PayloadImpl payload = new PayloadImpl(null, null, null, 1477592L, 1477500L, Payload.NO_EPOCH_SECOND, null,
+                null, objectMapper);
+        assertThat(payload.getExpiresAtAsInstant(), is(Instant.ofEpochSecond(1477592)));
+        assertThat(payload.getExpiresAt(), is(new Date(1477592000L)));
+        assertThat(payload.getNotBeforeAsInstant(), is(Instant.ofEpochSecond(1477500)));
+        assertThat(payload.getIssuedAtAsInstant(), is(nullValue()));
+        assertThat(payload.getIssuedAt(), is(nullValue()));
+    }
+
     @Test
     public void shouldGetJWTId() {
         assertThat(payload, is(notNullValue()));
@@ -191,4 +223,32 @@ public class PayloadImplTest {
         exception.expect(UnsupportedOperationException.class);
         claims.put("name", null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepTheSerializedFormOfTheTimeClaims() {
+        ObjectStreamClass form = ObjectStreamClass.lookup(PayloadImpl.class);
+        assertThat(form.getField("expiresAt").getType(), is(equalTo(Instant.class)));
+        assertThat(form.getField("notBefore").getType(), is(equalTo(Instant.class)));
+        assertThat(form.getField("issuedAt").getType(), is(equalTo(Instant.class)));
+    }
+
+    @Test
+    public void shouldDeserializeTheSerializedPayload() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(payload);
+        }
+        PayloadImpl deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (PayloadImpl) in.readObject();
+        }
+
+        assertThat(deserialized.getIssuer(), is(payload.getIssuer()));
+        assertThat(deserialized.getAudience(), is(payload.getAudience()));
+        assertThat(deserialized.getExpiresAtAsInstant(), is(payload.getExpiresAtAsInstant()));
+        assertThat(deserialized.getNotBeforeAsInstant(), is(payload.getNotBeforeAsInstant()));
+        assertThat(deserialized.getIssuedAtAsInstant(), is(payload.getIssuedAtAsInstant()));
+        assertThat(deserialized.getId(), is(payload.getId()));
+        assertThat(deserialized.getClaim("extraClaim").asString(), is("extraValue"));
+    }
+}
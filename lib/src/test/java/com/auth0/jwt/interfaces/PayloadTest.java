@@ -28,6 +28,23 @@ public class PayloadTest {
         assertThat(payload.getNotBeforeAsInstant(), is(nullValue()));
     }
 
+    @Test
+    public void shouldGetEpochSecondFromDefault() {
+        Date date = new Date(1646667492000L);
+        Payload payload = new PayloadImplForTest(date);
+        assertThat(payload.getExpiresAtAsEpochSecond(), is(1646667492L));
+        assertThat(payload.getIssuedAtAsEpochSecond(), is(1646667492L));
+        assertThat(payload.getNotBeforeAsEpochSecond(), is(1646667492L));
+    }
+
+    @Test
+    public void shouldGetEpochSecondFromDefaultAsMissing() {
+        Payload payload = new PayloadImplForTest(null);
+        assertThat(payload.getExpiresAtAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+        assertThat(payload.getIssuedAtAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+        assertThat(payload.getNotBeforeAsEpochSecond(), is(Payload.NO_EPOCH_SECOND));
+    }
+
     static class PayloadImplForTest implements Payload {
         private final Date date;
 
@@ -1,6 +1,7 @@
 package com.auth0.jwt.interfaces;
 
 import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
 import org.junit.Test;
 
 import java.time.Instant;
@@ -12,7 +13,6 @@ import java.util.function.BiPredicate;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.instanceOf;
-import static org.junit.Assert.assertThrows;
 
 /**
  * Tests for any default method implementations in the {@link Verification} interface.
@@ -163,6 +163,41 @@ public class VerificationTest {
             return null;
         }
 
+        @Override
+        public Verification withVerifiedTokenCache(int maxSize) throws IllegalArgumentException {
+            return null;
+        }
+
+        @Override
+        public Verification checkClaimsBeforeSignature() {
+            return null;
+        }
+
+        @Override
+        public Verification withStacklessExceptions() {
+            return null;
+        }
+
+        @Override
+        public Verification withCoarseClock() {
+            return null;
+        }
+
+        @Override
+        public Verification acceptAlgorithm(Algorithm algorithm) throws IllegalArgumentException {
+            return null;
+        }
+
+        @Override
+        public Verification acceptAlgorithm(Algorithm algorithm, String keyId) throws IllegalArgumentException {
+            return null;
+        }
+
+        @Override
+        public Verification withMetrics(JWTMetrics metrics) throws IllegalArgumentException {
+            return null;
+        }
+
         @Override
         public JWTVerifier build() {
             return null;